@@ -3,9 +3,11 @@ package com.mockly;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaRepositories(basePackages = "com.mockly.data.repository")
+@EnableScheduling
 public class MocklyApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,100 @@
+package com.mockly.api.controller;
+
+import com.mockly.core.dto.availability.AvailabilityResponse;
+import com.mockly.core.dto.availability.CreateAvailabilityRequest;
+import com.mockly.core.dto.availability.FreeSlotListResponse;
+import com.mockly.core.dto.user.InterviewerSearchResponse;
+import com.mockly.core.service.InterviewerCalendarService;
+import com.mockly.core.service.InterviewerSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/interviewers")
+@RequiredArgsConstructor
+@Tag(name = "Interviewers", description = "Interviewer discovery endpoints")
+@SecurityRequirement(name = "bearerAuth")
+public class InterviewerController {
+
+    private final InterviewerSearchService interviewerSearchService;
+    private final InterviewerCalendarService interviewerCalendarService;
+
+    @GetMapping("/search")
+    @Operation(
+            summary = "Search interviewers",
+            description = "Find interviewers having any of the given skills, optionally at a level. " +
+                    "Results are ranked by the number of requested skills matched."
+    )
+    public ResponseEntity<InterviewerSearchResponse> searchInterviewers(
+            @RequestParam(required = false) List<String> skills,
+            @RequestParam(required = false) String level,
+            @RequestParam(defaultValue = "20") int limit) {
+        InterviewerSearchResponse response = interviewerSearchService.search(skills, level, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/me/availability")
+    @Operation(
+            summary = "Publish availability",
+            description = "Add a window (up to 24 hours) in which the current interviewer accepts scheduled sessions."
+    )
+    public ResponseEntity<AvailabilityResponse> addAvailability(
+            Authentication authentication,
+            @Valid @RequestBody CreateAvailabilityRequest request) {
+        UUID userId = UUID.fromString(authentication.getName());
+        AvailabilityResponse response = interviewerCalendarService.addAvailability(userId, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @DeleteMapping("/me/availability/{availabilityId}")
+    @Operation(
+            summary = "Remove availability",
+            description = "Remove one of the current interviewer's availability windows. Booked sessions are kept."
+    )
+    public ResponseEntity<Void> deleteAvailability(
+            Authentication authentication,
+            @PathVariable UUID availabilityId) {
+        UUID userId = UUID.fromString(authentication.getName());
+        interviewerCalendarService.deleteAvailability(userId, availabilityId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/{id}/availability")
+    @Operation(
+            summary = "Get availability",
+            description = "Upcoming availability windows of an interviewer."
+    )
+    public ResponseEntity<List<AvailabilityResponse>> getAvailability(@PathVariable UUID id) {
+        return ResponseEntity.ok(interviewerCalendarService.getAvailability(id));
+    }
+
+    @GetMapping("/{id}/free-slots")
+    @Operation(
+            summary = "Find free slots",
+            description = "Free stretches of an interviewer's availability that fit a session of the given length. " +
+                    "Defaults to the next 7 days."
+    )
+    public ResponseEntity<FreeSlotListResponse> findFreeSlots(
+            @PathVariable UUID id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+            @RequestParam(defaultValue = "60") int durationMinutes,
+            @RequestParam(defaultValue = "20") int limit) {
+        OffsetDateTime start = from != null ? from : OffsetDateTime.now();
+        OffsetDateTime end = to != null ? to : start.plusDays(7);
+        FreeSlotListResponse response = interviewerCalendarService.findFreeSlots(id, start, end, durationMinutes, limit);
+        return ResponseEntity.ok(response);
+    }
+}
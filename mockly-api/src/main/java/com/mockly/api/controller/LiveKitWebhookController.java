@@ -1,9 +1,7 @@
 package com.mockly.api.controller;
 
 import com.mockly.api.websocket.SessionEventPublisher;
-import com.mockly.core.mapper.SessionMapper;
-import com.mockly.data.enums.SessionStatus;
-import com.mockly.data.repository.SessionRepository;
+import com.mockly.core.service.SessionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -15,7 +13,6 @@ import org.springframework.web.bind.annotation.*;
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
-import java.time.OffsetDateTime;
 import java.util.Map;
 import java.util.UUID;
 
@@ -30,9 +27,8 @@ import java.util.UUID;
 @Tag(name = "Webhooks", description = "LiveKit webhook endpoints")
 public class LiveKitWebhookController {
 
-    private final SessionRepository sessionRepository;
     private final SessionEventPublisher eventPublisher;
-    private final SessionMapper sessionMapper;
+    private final SessionService sessionService;
 
     @Value("${livekit.webhook-secret:}")
     private String webhookSecret;
@@ -98,18 +94,13 @@ public class LiveKitWebhookController {
             return;
         }
 
-        sessionRepository.findById(sessionId).ifPresent(session -> {
-            if (session.getStatus() == SessionStatus.SCHEDULED) {
-                session.setStatus(SessionStatus.ACTIVE);
-                session.setStartsAt(OffsetDateTime.now());
-                session = sessionRepository.save(session);
-                log.info("Session {} started (room_started event)", sessionId);
-                
-                // Publish WebSocket event
-                var sessionResponse = sessionMapper.toResponse(session);
-                eventPublisher.publishSessionUpdated(session, sessionResponse);
-            }
-        });
+        if (sessionService.startSession(sessionId)) {
+            log.info("Session {} started (room_started event)", sessionId);
+
+            // Publish WebSocket event
+            var sessionResponse = sessionService.getSessionResponse(sessionId);
+            eventPublisher.publishSessionUpdated(sessionId, sessionResponse);
+        }
     }
 
     private void handleRoomFinished(Map<String, Object> payload) {
@@ -124,18 +115,12 @@ public class LiveKitWebhookController {
             return;
         }
 
-        sessionRepository.findById(sessionId).ifPresent(session -> {
-            if (session.getStatus() != SessionStatus.ENDED) {
-                session.setStatus(SessionStatus.ENDED);
-                session.setEndsAt(OffsetDateTime.now());
-                session = sessionRepository.save(session);
-                log.info("Session {} finished (room_finished event)", sessionId);
-                
+        if (sessionService.finishSession(sessionId)) {
+            log.info("Session {} finished (room_finished event)", sessionId);
 
-                var sessionResponse = sessionMapper.toResponse(session);
-                eventPublisher.publishSessionEnded(session, sessionResponse);
-            }
-        });
+            var sessionResponse = sessionService.getSessionResponse(sessionId);
+            eventPublisher.publishSessionEnded(sessionId, sessionResponse);
+        }
     }
 
     private void handleParticipantJoined(Map<String, Object> payload) {
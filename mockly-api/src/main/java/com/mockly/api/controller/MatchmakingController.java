@@ -0,0 +1,72 @@
+package com.mockly.api.controller;
+
+import com.mockly.core.dto.matchmaking.EnqueueCandidateRequest;
+import com.mockly.core.dto.matchmaking.MatchmakingTicketResponse;
+import com.mockly.core.service.MatchmakingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/matchmaking")
+@RequiredArgsConstructor
+@Tag(name = "Matchmaking", description = "On-demand interview matchmaking endpoints")
+@SecurityRequirement(name = "bearerAuth")
+public class MatchmakingController {
+
+    private final MatchmakingService matchmakingService;
+
+    @PostMapping("/candidate")
+    @Operation(
+            summary = "Wait for an interviewer",
+            description = "Join the queue for an on-demand interview. When an interviewer with any of the " +
+                    "requested skills is available, a session is created and announced on /user/queue/matchmaking."
+    )
+    public ResponseEntity<MatchmakingTicketResponse> enqueueCandidate(
+            Authentication authentication,
+            @Valid @RequestBody EnqueueCandidateRequest request) {
+        UUID userId = UUID.fromString(authentication.getName());
+        MatchmakingTicketResponse response = matchmakingService.enqueueCandidate(userId, request.skills());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @PostMapping("/interviewer")
+    @Operation(
+            summary = "Offer an on-demand interview",
+            description = "Make the current interviewer available to the next candidate wanting their profile skills."
+    )
+    public ResponseEntity<MatchmakingTicketResponse> enqueueInterviewer(Authentication authentication) {
+        UUID userId = UUID.fromString(authentication.getName());
+        MatchmakingTicketResponse response = matchmakingService.enqueueInterviewer(userId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @GetMapping
+    @Operation(
+            summary = "Get queue status",
+            description = "Returns the current user's place in the matchmaking queue."
+    )
+    public ResponseEntity<MatchmakingTicketResponse> getTicket(Authentication authentication) {
+        UUID userId = UUID.fromString(authentication.getName());
+        return ResponseEntity.ok(matchmakingService.getTicket(userId));
+    }
+
+    @DeleteMapping
+    @Operation(
+            summary = "Leave the queue",
+            description = "Stop waiting for an on-demand interview."
+    )
+    public ResponseEntity<Void> leave(Authentication authentication) {
+        UUID userId = UUID.fromString(authentication.getName());
+        matchmakingService.leave(userId);
+        return ResponseEntity.noContent().build();
+    }
+}
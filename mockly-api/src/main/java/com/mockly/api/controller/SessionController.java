@@ -1,25 +1,37 @@
 package com.mockly.api.controller;
 
 import com.mockly.api.websocket.SessionEventPublisher;
+import com.mockly.core.dto.session.BulkCreateSessionsRequest;
+import com.mockly.core.dto.session.BulkCreateSessionsResponse;
 import com.mockly.core.dto.session.CreateSessionRequest;
 import com.mockly.core.dto.session.LiveKitTokenResponse;
 import com.mockly.core.dto.session.SessionListResponse;
 import com.mockly.core.dto.session.SessionResponse;
+import com.mockly.core.dto.session.SessionStatsResponse;
+import com.mockly.core.dto.session.SessionSummaryListResponse;
+import com.mockly.core.service.BulkSessionService;
+import com.mockly.core.service.DisplayNameResolver;
 import com.mockly.core.service.LiveKitService;
+import com.mockly.core.service.SessionExportService;
 import com.mockly.core.service.SessionService;
+import com.mockly.core.service.SessionStatsService;
 import com.mockly.data.entity.Session;
 import com.mockly.data.enums.SessionStatus;
 import com.mockly.data.repository.SessionRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -33,6 +45,10 @@ public class SessionController {
     private final LiveKitService liveKitService;
     private final SessionEventPublisher eventPublisher;
     private final SessionRepository sessionRepository;
+    private final DisplayNameResolver displayNameResolver;
+    private final BulkSessionService bulkSessionService;
+    private final SessionStatsService sessionStatsService;
+    private final SessionExportService sessionExportService;
 
     @PostMapping
     @Operation(
@@ -54,6 +70,20 @@ public class SessionController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/bulk")
+    @Operation(
+            summary = "Schedule sessions in bulk",
+            description = "Creates up to 1000 sessions for pairs of candidates and interviewers in one request. " +
+                    "Only interviewers may call it, and only for sessions they conduct themselves. Each entry is created or rejected on its own; " +
+                    "results are returned in request order."
+    )
+    public ResponseEntity<BulkCreateSessionsResponse> createSessions(
+            Authentication authentication,
+            @Valid @RequestBody BulkCreateSessionsRequest request) {
+        UUID userId = UUID.fromString(authentication.getName());
+        return ResponseEntity.ok(bulkSessionService.createSessions(userId, request));
+    }
+
     @PostMapping("/{id}/join")
     @Operation(
             summary = "Join a session",
@@ -66,7 +96,7 @@ public class SessionController {
         SessionResponse response = sessionService.joinSession(id, userId);
         
 
-        Session session = sessionRepository.findById(id).orElse(null);
+        Session session = sessionRepository.findDetailedById(id).orElse(null);
         if (session != null) {
             session.getParticipants().stream()
                     .filter(p -> p.getUserId().equals(userId))
@@ -111,11 +141,8 @@ public class SessionController {
         sessionService.endSession(id, userId);
         
         // Publish WebSocket event
-        Session session = sessionRepository.findById(id).orElse(null);
-        if (session != null) {
-            SessionResponse response = sessionService.getSession(id, userId);
-            eventPublisher.publishSessionEnded(session, response);
-        }
+        SessionResponse response = sessionService.getSession(id, userId);
+        eventPublisher.publishSessionEnded(id, response);
         
         return ResponseEntity.ok().build();
     }
@@ -136,18 +163,78 @@ public class SessionController {
     @GetMapping
     @Operation(
             summary = "List sessions",
-            description = "Returns paginated list of sessions where user is creator or participant. Can be filtered by status."
+            description = "Returns paginated list of sessions where user is creator or participant. Can be filtered by status. " +
+                    "Pass the returned nextCursor as cursor to page by keyset instead of page number; " +
+                    "pages requested by cursor omit the total. Size is at most 100."
     )
     public ResponseEntity<SessionListResponse> listSessions(
+            Authentication authentication,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) SessionStatus status,
+            @RequestParam(required = false) String cursor) {
+        UUID userId = UUID.fromString(authentication.getName());
+        SessionListResponse response = sessionService.listSessions(userId, page, size, status, cursor);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/summaries")
+    @Operation(
+            summary = "List session summaries",
+            description = "Returns a lightweight page of sessions (id, status, times and the other participant's name) " +
+                    "where user is creator or participant. Can be filtered by status."
+    )
+    public ResponseEntity<SessionSummaryListResponse> listSessionSummaries(
             Authentication authentication,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(required = false) SessionStatus status) {
         UUID userId = UUID.fromString(authentication.getName());
-        SessionListResponse response = sessionService.listSessions(userId, page, size, status);
+        SessionSummaryListResponse response = sessionService.listSessionSummaries(userId, page, size, status);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/stats")
+    @Operation(
+            summary = "Get session counts",
+            description = "Returns the number of the current user's sessions (as candidate or interviewer) in each status."
+    )
+    public ResponseEntity<SessionStatsResponse> getSessionStats(Authentication authentication) {
+        UUID userId = UUID.fromString(authentication.getName());
+        return ResponseEntity.ok(sessionStatsService.getUserStats(userId));
+    }
+
+    @GetMapping("/stats/global")
+    @Operation(
+            summary = "Get overall session counts",
+            description = "Returns the number of sessions across all users in each status."
+    )
+    public ResponseEntity<SessionStatsResponse> getGlobalSessionStats() {
+        return ResponseEntity.ok(sessionStatsService.getGlobalStats());
+    }
+
+    @GetMapping("/export")
+    @Operation(
+            summary = "Export session history",
+            description = "Streams sessions with participants, artifacts and report status, oldest first, " +
+                    "as NDJSON (one session per line) or CSV. Scope ALL is limited to configured users."
+    )
+    public void exportSessions(
+            Authentication authentication,
+            @RequestParam(defaultValue = "NDJSON") SessionExportService.Format format,
+            @RequestParam(defaultValue = "MINE") SessionExportService.Scope scope,
+            HttpServletResponse response) throws IOException {
+        UUID userId = UUID.fromString(authentication.getName());
+        sessionExportService.requireAccess(userId, scope);
+
+        boolean csv = format == SessionExportService.Format.CSV;
+        response.setContentType(csv ? "text/csv" : "application/x-ndjson");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"sessions." + (csv ? "csv" : "ndjson") + "\"");
+        sessionExportService.export(userId, scope, format, response.getOutputStream());
+    }
+
     @GetMapping("/me/active")
     @Operation(
             summary = "Get active session",
@@ -174,7 +261,7 @@ public class SessionController {
         sessionService.getSession(id, userId);
         
         // Get user display name from profile
-        String displayName = sessionService.getUserDisplayName(userId);
+        String displayName = displayNameResolver.resolve(userId);
         
         LiveKitTokenResponse response = liveKitService.generateToken(id, userId, displayName);
         return ResponseEntity.ok(response);
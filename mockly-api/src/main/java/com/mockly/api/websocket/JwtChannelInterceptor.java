@@ -1,6 +1,8 @@
 package com.mockly.api.websocket;
 
+import com.mockly.security.jwt.JwtPrincipal;
 import com.mockly.security.jwt.JwtTokenProvider;
+import com.mockly.security.jwt.TokenRevocationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
@@ -11,16 +13,19 @@ import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Interceptor for WebSocket JWT authentication.
- * Validates JWT token from STOMP headers and sets authentication in security context.
+ * Verifies the JWT once on CONNECT and stores the principal in the STOMP session attributes.
+ * Later SEND and SUBSCRIBE frames are checked against the cached expiry instead of re-parsing
+ * the token, and the session is closed as soon as the token expires.
  */
 @Component
 @RequiredArgsConstructor
@@ -28,47 +33,90 @@ import java.util.List;
 public class JwtChannelInterceptor implements ChannelInterceptor {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationService tokenRevocationService;
+    private final WebSocketSessionExpiryManager sessionExpiryManager;
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String TOKEN_HEADER = "token";
+    static final String PRINCIPAL_ATTRIBUTE = "jwtPrincipal";
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
         StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
-        
-        if (accessor != null && StompCommand.CONNECT.equals(accessor.getCommand())) {
-            // Extract token from headers
-            String token = extractToken(accessor);
-            
-            if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-                try {
-                    String userId = jwtTokenProvider.getUserIdFromToken(token).toString();
-                    String role = jwtTokenProvider.getRoleFromToken(token);
-
-                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                            userId,
-                            null,
-                            Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role))
-                    );
-
-                    // Set authentication in accessor for WebSocket session
-                    accessor.setUser(authentication);
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                    
-                    log.info("WebSocket connection authenticated for user: {}", userId);
-                } catch (Exception e) {
-                    log.error("Failed to authenticate WebSocket connection", e);
-                    throw new SecurityException("Invalid JWT token for WebSocket connection", e);
-                }
-            } else {
-                log.warn("WebSocket connection rejected: invalid or missing JWT token");
-                throw new SecurityException("WebSocket connection requires valid JWT token");
-            }
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+            authenticate(accessor);
+        } else if (StompCommand.SEND.equals(accessor.getCommand())
+                || StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            checkSessionPrincipal(accessor);
         }
 
         return message;
     }
 
+    private void authenticate(StompHeaderAccessor accessor) {
+        // Extract token from headers
+        String token = extractToken(accessor);
+
+        if (!StringUtils.hasText(token)) {
+            log.warn("WebSocket connection rejected: missing JWT token");
+            throw new SecurityException("WebSocket connection requires valid JWT token");
+        }
+
+        JwtPrincipal principal;
+        try {
+            principal = jwtTokenProvider.verify(token);
+        } catch (Exception e) {
+            log.warn("WebSocket connection rejected: invalid JWT token ({})", e.getMessage());
+            throw new SecurityException("Invalid JWT token for WebSocket connection", e);
+        }
+        if (tokenRevocationService.isRevoked(principal)) {
+            throw new SecurityException("JWT token has been revoked");
+        }
+
+        String userId = principal.userId().toString();
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                userId,
+                null,
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + principal.role()))
+        );
+
+        // Set authentication in accessor for WebSocket session; the broker keeps it for later frames
+        accessor.setUser(authentication);
+
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (attributes != null) {
+            attributes.put(PRINCIPAL_ATTRIBUTE, principal);
+        }
+        if (accessor.getSessionId() != null) {
+            sessionExpiryManager.scheduleExpiry(accessor.getSessionId(), principal.expiresAt());
+        }
+
+        log.info("WebSocket connection authenticated for user: {}", userId);
+    }
+
+    /**
+     * Reject frames from sessions whose token has expired or been revoked since CONNECT.
+     */
+    private void checkSessionPrincipal(StompHeaderAccessor accessor) {
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        JwtPrincipal principal = attributes != null ? (JwtPrincipal) attributes.get(PRINCIPAL_ATTRIBUTE) : null;
+        if (principal == null) {
+            throw new SecurityException("WebSocket session is not authenticated");
+        }
+
+        if (!principal.expiresAt().isAfter(Instant.now()) || tokenRevocationService.isRevoked(principal)) {
+            log.info("Rejecting frame from WebSocket session {}: token no longer valid", accessor.getSessionId());
+            if (accessor.getSessionId() != null) {
+                sessionExpiryManager.close(accessor.getSessionId());
+            }
+            throw new SecurityException("JWT token expired or revoked");
+        }
+    }
+
     /**
      * Extract JWT token from STOMP headers.
      * Supports both "Authorization: Bearer <token>" and "token: <token>" formats.
@@ -92,4 +140,3 @@ public class JwtChannelInterceptor implements ChannelInterceptor {
         return null;
     }
 }
-
@@ -0,0 +1,45 @@
+package com.mockly.api.websocket;
+
+import com.mockly.core.service.MatchmakingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Notifies matchmaking users over STOMP.
+ * Sends to each user's own queue: /user/queue/matchmaking
+ * Payload: MatchmakingEventResponse
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MatchmakingEventListener {
+
+    static final String MATCHMAKING_QUEUE = "/queue/matchmaking";
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @EventListener
+    public void handleMatchFound(MatchmakingService.MatchFoundEvent event) {
+        MatchmakingEventResponse payload = new MatchmakingEventResponse(
+                MatchmakingEventResponse.Type.MATCH_FOUND, event.session(), null);
+        sendToUser(event.candidateId(), payload);
+        sendToUser(event.interviewerId(), payload);
+        log.info("Published MATCH_FOUND for session: {}", event.session().id());
+    }
+
+    @EventListener
+    public void handleTicketClosed(MatchmakingService.TicketClosedEvent event) {
+        sendToUser(event.userId(), new MatchmakingEventResponse(
+                MatchmakingEventResponse.Type.TICKET_CLOSED, null, event.reason()));
+    }
+
+    private void sendToUser(UUID userId, MatchmakingEventResponse payload) {
+        // The STOMP principal name is the user ID (see JwtChannelInterceptor)
+        messagingTemplate.convertAndSendToUser(userId.toString(), MATCHMAKING_QUEUE, payload);
+    }
+}
@@ -0,0 +1,19 @@
+package com.mockly.api.websocket;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.mockly.core.dto.session.SessionResponse;
+
+/**
+ * Matchmaking notification sent to a single user.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record MatchmakingEventResponse(
+        Type type,
+        SessionResponse session,
+        String reason
+) {
+    public enum Type {
+        MATCH_FOUND,
+        TICKET_CLOSED
+    }
+}
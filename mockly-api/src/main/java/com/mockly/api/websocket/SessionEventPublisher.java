@@ -5,11 +5,11 @@ import com.mockly.core.dto.session.ArtifactResponse;
 import com.mockly.core.dto.session.SessionResponse;
 import com.mockly.core.dto.session.TranscriptResponse;
 import com.mockly.core.mapper.SessionMapper;
+import com.mockly.core.service.SessionService;
 import com.mockly.data.entity.Artifact;
 import com.mockly.data.entity.Session;
 import com.mockly.data.entity.SessionParticipant;
 import com.mockly.data.entity.Transcript;
-import com.mockly.data.repository.SessionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
@@ -30,7 +30,7 @@ public class SessionEventPublisher {
 
     private final SimpMessagingTemplate messagingTemplate;
     private final SessionMapper sessionMapper;
-    private final SessionRepository sessionRepository;
+    private final SessionService sessionService;
 
     private static final String SESSION_TOPIC_PREFIX = "/topic/sessions/";
 
@@ -152,25 +152,25 @@ public class SessionEventPublisher {
     /**
      * Publish session updated event (legacy).
      */
-    public void publishSessionUpdated(Session session, SessionResponse sessionResponse) {
-        String sessionTopic = SESSION_TOPIC_PREFIX + session.getId();
+    public void publishSessionUpdated(UUID sessionId, SessionResponse sessionResponse) {
+        String sessionTopic = SESSION_TOPIC_PREFIX + sessionId;
         SessionEventResponse event = SessionEventResponse.sessionEvent(
                 SessionEventType.SESSION_UPDATED, sessionResponse);
         
         publishToSessionTopic(sessionTopic, event);
-        log.info("Published SESSION_UPDATED event for session: {}", session.getId());
+        log.info("Published SESSION_UPDATED event for session: {}", sessionId);
     }
 
     /**
      * Publish session ended event (legacy).
      */
-    public void publishSessionEnded(Session session, SessionResponse sessionResponse) {
-        String sessionTopic = SESSION_TOPIC_PREFIX + session.getId();
+    public void publishSessionEnded(UUID sessionId, SessionResponse sessionResponse) {
+        String sessionTopic = SESSION_TOPIC_PREFIX + sessionId;
         SessionEventResponse event = SessionEventResponse.sessionEvent(
                 SessionEventType.SESSION_ENDED, sessionResponse);
         
         publishToSessionTopic(sessionTopic, event);
-        log.info("Published SESSION_ENDED event for session: {}", session.getId());
+        log.info("Published SESSION_ENDED event for session: {}", sessionId);
     }
 
     // Private helper methods
@@ -184,12 +184,10 @@ public class SessionEventPublisher {
     }
 
     /**
-     * Load session from repository and map to SessionResponse.
+     * Load the mapped session, served from the session cache when possible.
      */
     private SessionResponse loadAndMapSession(UUID sessionId) {
-        Session session = sessionRepository.findById(sessionId)
-                .orElseThrow(() -> new RuntimeException("Session not found: " + sessionId));
-        return sessionMapper.toResponse(session);
+        return sessionService.getSessionResponse(sessionId);
     }
 
     /**
@@ -0,0 +1,95 @@
+package com.mockly.api.websocket;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Tracks open WebSocket sessions and closes each one when its JWT expires.
+ * Session IDs match the STOMP {@code simpSessionId}, so the channel interceptor
+ * can schedule expiry right after authenticating CONNECT.
+ */
+@Component
+@Slf4j
+public class WebSocketSessionExpiryManager implements WebSocketHandlerDecoratorFactory {
+
+    private static final CloseStatus TOKEN_EXPIRED = CloseStatus.POLICY_VIOLATION.withReason("JWT token expired");
+
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+    private final Map<String, ScheduledFuture<?>> expiryTasks = new ConcurrentHashMap<>();
+    private final ThreadPoolTaskScheduler scheduler;
+
+    public WebSocketSessionExpiryManager() {
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("ws-expiry-");
+        scheduler.setRemoveOnCancelPolicy(true);
+        scheduler.initialize();
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                sessions.put(session.getId(), session);
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessions.remove(session.getId());
+                ScheduledFuture<?> task = expiryTasks.remove(session.getId());
+                if (task != null) {
+                    task.cancel(false);
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    /**
+     * Close the session at the given instant unless it disconnects first.
+     */
+    public void scheduleExpiry(String sessionId, Instant expiresAt) {
+        ScheduledFuture<?> task = scheduler.schedule(() -> close(sessionId), expiresAt);
+        ScheduledFuture<?> previous = expiryTasks.put(sessionId, task);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+    }
+
+    /**
+     * Close a session because its token is no longer valid.
+     */
+    public void close(String sessionId) {
+        expiryTasks.remove(sessionId);
+        WebSocketSession session = sessions.get(sessionId);
+        if (session == null || !session.isOpen()) {
+            return;
+        }
+        try {
+            session.close(TOKEN_EXPIRED);
+            log.info("Closed WebSocket session {}: token expired", sessionId);
+        } catch (IOException e) {
+            log.warn("Failed to close WebSocket session {}", sessionId, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+}
@@ -0,0 +1,178 @@
+package com.mockly.api.repository;
+
+import com.mockly.core.dto.session.SessionResponse;
+import com.mockly.core.mapper.SessionMapper;
+import com.mockly.core.mapper.SessionMapperImpl;
+import com.mockly.data.entity.Artifact;
+import com.mockly.data.entity.Profile;
+import com.mockly.data.entity.Session;
+import com.mockly.data.entity.SessionParticipant;
+import com.mockly.data.entity.User;
+import com.mockly.data.enums.ArtifactType;
+import com.mockly.data.enums.ParticipantRole;
+import com.mockly.data.enums.SessionStatus;
+import com.mockly.data.repository.SessionRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that mapping sessions to responses runs a constant number of queries,
+ * independent of how many sessions, participants and artifacts are loaded.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(SessionMapperImpl.class)
+@Testcontainers
+@DisplayName("SessionRepository fetch plan tests")
+class SessionRepositoryQueryCountTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(
+            DockerImageName.parse("postgres:16-alpine")
+    )
+            .withDatabaseName("mockly_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private SessionMapper sessionMapper;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Should load and map one session in two queries")
+    void shouldLoadSingleSessionInConstantQueries() {
+        // Given
+        UUID sessionId = createSessionWithParticipants(0);
+        clearPersistenceContext();
+
+        // When
+        Session session = sessionRepository.findDetailedById(sessionId).orElseThrow();
+        SessionResponse response = sessionMapper.toResponse(session);
+
+        // Then
+        assertThat(response.creatorDisplayName()).isEqualTo("Candidate 0");
+        assertThat(response.participants()).extracting("userDisplayName")
+                .containsExactlyInAnyOrder("Candidate 0", "Interviewer 0");
+        assertThat(response.artifacts()).hasSize(2);
+        // session + creator + participants + users + profiles, then one artifact batch
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should load and map a page of sessions in the same number of queries")
+    void shouldLoadPageInConstantQueries() {
+        // Given
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            ids.add(createSessionWithParticipants(i));
+        }
+        clearPersistenceContext();
+
+        // When
+        List<SessionResponse> responses = sessionMapper.toResponseList(sessionRepository.findDetailedByIdIn(ids));
+
+        // Then
+        assertThat(responses).hasSize(20);
+        assertThat(responses).allSatisfy(response -> {
+            assertThat(response.participants()).hasSize(2);
+            assertThat(response.artifacts()).hasSize(2);
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private void clearPersistenceContext() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    private UUID createSessionWithParticipants(int index) {
+        User candidate = createUser("candidate" + index + "@example.com", "Candidate", String.valueOf(index),
+                Profile.ProfileRole.CANDIDATE);
+        User interviewer = createUser("interviewer" + index + "@example.com", "Interviewer", String.valueOf(index),
+                Profile.ProfileRole.INTERVIEWER);
+
+        Session session = entityManager.persist(Session.builder()
+                .createdBy(candidate.getId())
+                .status(SessionStatus.SCHEDULED)
+                .roomProvider("livekit")
+                .build());
+
+        entityManager.persist(SessionParticipant.builder()
+                .sessionId(session.getId())
+                .userId(candidate.getId())
+                .roleInSession(ParticipantRole.CANDIDATE)
+                .build());
+        entityManager.persist(SessionParticipant.builder()
+                .sessionId(session.getId())
+                .userId(interviewer.getId())
+                .roleInSession(ParticipantRole.INTERVIEWER)
+                .build());
+
+        for (int i = 0; i < 2; i++) {
+            entityManager.persist(Artifact.builder()
+                    .sessionId(session.getId())
+                    .type(ArtifactType.AUDIO_MIXED)
+                    .storageUrl("artifacts/" + session.getId() + "/" + i)
+                    .build());
+        }
+        return session.getId();
+    }
+
+    private User createUser(String email, String name, String surname, Profile.ProfileRole role) {
+        User user = entityManager.persist(User.builder()
+                .email(email)
+                .passwordHash("hash")
+                .build());
+        entityManager.persist(Profile.builder()
+                .user(user)
+                .role(role)
+                .name(name)
+                .surname(surname)
+                .build());
+        return user;
+    }
+}
@@ -0,0 +1,162 @@
+package com.mockly.api.websocket;
+
+import com.mockly.security.jwt.JwtPrincipal;
+import com.mockly.security.jwt.JwtTokenProvider;
+import com.mockly.security.jwt.TokenRevocationService;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtChannelInterceptor Tests")
+class JwtChannelInterceptorTest {
+
+    private static final String SESSION_ID = "ws-1";
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private WebSocketSessionExpiryManager sessionExpiryManager;
+
+    @Mock
+    private MessageChannel channel;
+
+    @InjectMocks
+    private JwtChannelInterceptor interceptor;
+
+    private Map<String, Object> sessionAttributes;
+    private JwtPrincipal principal;
+
+    @BeforeEach
+    void setUp() {
+        sessionAttributes = new HashMap<>();
+        principal = new JwtPrincipal(UUID.randomUUID(), "CANDIDATE", "access",
+                Instant.now().plusSeconds(600), "jti-1");
+    }
+
+    @Test
+    @DisplayName("Should authenticate CONNECT once, cache the principal and schedule expiry")
+    void shouldAuthenticateConnect() {
+        // Given
+        when(jwtTokenProvider.verify("good")).thenReturn(principal);
+        StompHeaderAccessor accessor = accessor(StompCommand.CONNECT);
+        accessor.setNativeHeader("Authorization", "Bearer good");
+
+        // When
+        interceptor.preSend(message(accessor), channel);
+
+        // Then
+        assertThat(accessor.getUser()).isNotNull();
+        assertThat(accessor.getUser().getName()).isEqualTo(principal.userId().toString());
+        assertThat(sessionAttributes).containsEntry(JwtChannelInterceptor.PRINCIPAL_ATTRIBUTE, principal);
+        verify(sessionExpiryManager).scheduleExpiry(SESSION_ID, principal.expiresAt());
+    }
+
+    @Test
+    @DisplayName("Should reject CONNECT without a token, with an invalid token or with a revoked token")
+    void shouldRejectConnectWithoutValidToken() {
+        // Given
+        when(jwtTokenProvider.verify("invalid")).thenThrow(new JwtException("bad signature"));
+        when(jwtTokenProvider.verify("revoked")).thenReturn(principal);
+        when(tokenRevocationService.isRevoked(principal)).thenReturn(true);
+
+        StompHeaderAccessor missing = accessor(StompCommand.CONNECT);
+        StompHeaderAccessor invalid = accessor(StompCommand.CONNECT);
+        invalid.setNativeHeader("token", "invalid");
+        StompHeaderAccessor revoked = accessor(StompCommand.CONNECT);
+        revoked.setNativeHeader("Authorization", "Bearer revoked");
+
+        // When & Then
+        assertThatThrownBy(() -> interceptor.preSend(message(missing), channel))
+                .isInstanceOf(SecurityException.class);
+        assertThatThrownBy(() -> interceptor.preSend(message(invalid), channel))
+                .isInstanceOf(SecurityException.class);
+        assertThatThrownBy(() -> interceptor.preSend(message(revoked), channel))
+                .isInstanceOf(SecurityException.class);
+        assertThat(sessionAttributes).isEmpty();
+        verifyNoInteractions(sessionExpiryManager);
+    }
+
+    @Test
+    @DisplayName("Should reject SEND and SUBSCRIBE without a cached principal")
+    void shouldRejectFramesWithoutPrincipal() {
+        // When & Then
+        assertThatThrownBy(() -> interceptor.preSend(message(accessor(StompCommand.SEND)), channel))
+                .isInstanceOf(SecurityException.class);
+        assertThatThrownBy(() -> interceptor.preSend(message(accessor(StompCommand.SUBSCRIBE)), channel))
+                .isInstanceOf(SecurityException.class);
+        verifyNoInteractions(jwtTokenProvider);
+    }
+
+    @Test
+    @DisplayName("Should accept frames with a valid cached principal without re-parsing the token")
+    void shouldAcceptFramesWithCachedPrincipal() {
+        // Given
+        sessionAttributes.put(JwtChannelInterceptor.PRINCIPAL_ATTRIBUTE, principal);
+
+        // When
+        interceptor.preSend(message(accessor(StompCommand.SEND)), channel);
+
+        // Then
+        verifyNoInteractions(jwtTokenProvider);
+        verify(sessionExpiryManager, never()).close(any());
+    }
+
+    @Test
+    @DisplayName("Should reject frames and close the session when the cached principal expired or was revoked")
+    void shouldCloseSessionWithInvalidPrincipal() {
+        // Given
+        JwtPrincipal expired = new JwtPrincipal(principal.userId(), "CANDIDATE", "access",
+                Instant.now().minusSeconds(1), "jti-2");
+        sessionAttributes.put(JwtChannelInterceptor.PRINCIPAL_ATTRIBUTE, expired);
+
+        // When & Then
+        assertThatThrownBy(() -> interceptor.preSend(message(accessor(StompCommand.SEND)), channel))
+                .isInstanceOf(SecurityException.class);
+
+        // Given
+        sessionAttributes.put(JwtChannelInterceptor.PRINCIPAL_ATTRIBUTE, principal);
+        when(tokenRevocationService.isRevoked(principal)).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> interceptor.preSend(message(accessor(StompCommand.SUBSCRIBE)), channel))
+                .isInstanceOf(SecurityException.class);
+        verify(sessionExpiryManager, times(2)).close(SESSION_ID);
+    }
+
+    private StompHeaderAccessor accessor(StompCommand command) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(SESSION_ID);
+        accessor.setSessionAttributes(sessionAttributes);
+        accessor.setLeaveMutable(true);
+        return accessor;
+    }
+
+    private static Message<byte[]> message(StompHeaderAccessor accessor) {
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,81 @@
+package com.mockly.api.websocket;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.Instant;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WebSocketSessionExpiryManager Tests")
+class WebSocketSessionExpiryManagerTest {
+
+    @Mock
+    private WebSocketHandler handler;
+
+    @Mock
+    private WebSocketSession session;
+
+    private WebSocketSessionExpiryManager expiryManager;
+    private WebSocketHandler decorated;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        expiryManager = new WebSocketSessionExpiryManager();
+        decorated = expiryManager.decorate(handler);
+        lenient().when(session.getId()).thenReturn("ws-1");
+        lenient().when(session.isOpen()).thenReturn(true);
+        decorated.afterConnectionEstablished(session);
+    }
+
+    @AfterEach
+    void tearDown() {
+        expiryManager.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should close the session with a policy violation when its token expires")
+    void shouldCloseOnExpiry() throws Exception {
+        // When
+        expiryManager.scheduleExpiry("ws-1", Instant.now().plusMillis(50));
+
+        // Then
+        verify(session, timeout(2000)).close(argThat(status -> status.getCode() == CloseStatus.POLICY_VIOLATION.getCode()));
+    }
+
+    @Test
+    @DisplayName("Should replace the previous expiry when a session is scheduled again")
+    void shouldReplacePreviousExpiry() throws Exception {
+        // When
+        expiryManager.scheduleExpiry("ws-1", Instant.now().plusMillis(100));
+        expiryManager.scheduleExpiry("ws-1", Instant.now().plusSeconds(3600));
+
+        // Then
+        verify(session, after(400).never()).close(any());
+    }
+
+    @Test
+    @DisplayName("Should cancel the expiry and forget the session once it disconnects")
+    void shouldCleanUpOnDisconnect() throws Exception {
+        // Given
+        expiryManager.scheduleExpiry("ws-1", Instant.now().plusMillis(100));
+
+        // When
+        decorated.afterConnectionClosed(session, CloseStatus.NORMAL);
+        expiryManager.close("ws-1");
+
+        // Then
+        verify(session, after(400).never()).close(any());
+        verify(handler).afterConnectionClosed(session, CloseStatus.NORMAL);
+    }
+}
@@ -0,0 +1,73 @@
+package com.mockly.bench;
+
+import com.mockly.core.service.InterviewerSkillIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of {@link InterviewerSkillIndex#search} over 100k interviewer profiles.
+ * Skills follow a skewed distribution, so common skills have large postings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InterviewerSkillIndexBenchmark {
+
+    private static final String[] LEVELS = {"Junior", "Middle", "Senior", "Lead"};
+
+    @Param("100000")
+    private int profiles;
+
+    @Param("200")
+    private int vocabulary;
+
+    private InterviewerSkillIndex index;
+    private List<String> popularSkills;
+    private List<String> rareSkills;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<InterviewerSkillIndex.Document> documents = new ArrayList<>(profiles);
+        for (int i = 0; i < profiles; i++) {
+            List<String> skills = new ArrayList<>();
+            int count = 3 + random.nextInt(8);
+            for (int s = 0; s < count; s++) {
+                // Squaring a uniform value skews picks towards low-numbered (popular) skills
+                double u = random.nextDouble();
+                skills.add("skill-" + (int) (u * u * vocabulary));
+            }
+            documents.add(new InterviewerSkillIndex.Document(
+                    UUID.randomUUID(), "Name" + i, "Surname" + i, null, LEVELS[i % LEVELS.length], skills));
+        }
+
+        index = new InterviewerSkillIndex();
+        index.replaceAll(documents);
+
+        popularSkills = List.of("skill-0", "skill-1", "skill-2");
+        rareSkills = List.of("skill-150", "skill-170", "skill-190", "skill-199", "skill-120");
+    }
+
+    @Benchmark
+    public InterviewerSkillIndex.Result popularSkills() {
+        return index.search(popularSkills, null, 20);
+    }
+
+    @Benchmark
+    public InterviewerSkillIndex.Result popularSkillsAtLevel() {
+        return index.search(popularSkills, "Senior", 20);
+    }
+
+    @Benchmark
+    public InterviewerSkillIndex.Result rareSkills() {
+        return index.search(rareSkills, null, 20);
+    }
+}
@@ -0,0 +1,74 @@
+package com.mockly.bench;
+
+import com.mockly.data.entity.Profile;
+import com.mockly.security.jwt.JwtPrincipal;
+import com.mockly.security.jwt.JwtTokenProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Issue, validate and claim extraction costs of {@link JwtTokenProvider}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private UUID userId;
+    private String accessToken;
+    private String refreshToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+        BenchmarkSupport.setField(jwtTokenProvider, "jwtSecret", BenchmarkSupport.JWT_SECRET);
+        BenchmarkSupport.setField(jwtTokenProvider, "accessTokenExpirationMs", 3_600_000L);
+        BenchmarkSupport.setField(jwtTokenProvider, "refreshTokenExpirationMs", 86_400_000L);
+        BenchmarkSupport.invoke(jwtTokenProvider, "init");
+
+        userId = UUID.randomUUID();
+        accessToken = jwtTokenProvider.generateAccessToken(userId, Profile.ProfileRole.CANDIDATE);
+        refreshToken = jwtTokenProvider.generateRefreshToken(userId);
+    }
+
+    @Benchmark
+    public String issueAccessToken() {
+        return jwtTokenProvider.generateAccessToken(userId, Profile.ProfileRole.CANDIDATE);
+    }
+
+    @Benchmark
+    public String issueRefreshToken() {
+        return jwtTokenProvider.generateRefreshToken(userId);
+    }
+
+    @Benchmark
+    public boolean validateAccessToken() {
+        return jwtTokenProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public boolean validateRefreshToken() {
+        return jwtTokenProvider.validateRefreshToken(refreshToken);
+    }
+
+    @Benchmark
+    public JwtPrincipal verifyAccessToken() {
+        return jwtTokenProvider.verify(accessToken);
+    }
+
+    @Benchmark
+    public UUID extractUserId() {
+        return jwtTokenProvider.getUserIdFromToken(accessToken);
+    }
+
+    @Benchmark
+    public String extractRole() {
+        return jwtTokenProvider.getRoleFromToken(accessToken);
+    }
+}
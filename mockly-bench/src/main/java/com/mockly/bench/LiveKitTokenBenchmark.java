@@ -0,0 +1,40 @@
+package com.mockly.bench;
+
+import com.mockly.core.dto.session.LiveKitTokenResponse;
+import com.mockly.core.service.LiveKitService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link LiveKitService#generateToken}, called on every session join.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LiveKitTokenBenchmark {
+
+    private LiveKitService liveKitService;
+    private UUID sessionId;
+    private UUID userId;
+
+    @Setup
+    public void setUp() {
+        liveKitService = new LiveKitService();
+        BenchmarkSupport.setField(liveKitService, "liveKitUrl", "http://localhost:7880");
+        BenchmarkSupport.setField(liveKitService, "apiKey", "benchmark-key");
+        BenchmarkSupport.setField(liveKitService, "apiSecret", "benchmark-secret");
+
+        sessionId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+    }
+
+    @Benchmark
+    public LiveKitTokenResponse generateToken() {
+        return liveKitService.generateToken(sessionId, userId, "Test User");
+    }
+}
@@ -0,0 +1,10 @@
+package com.mockly.core.dto.availability;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record AvailabilityResponse(
+        UUID id,
+        OffsetDateTime startsAt,
+        OffsetDateTime endsAt
+) {}
@@ -0,0 +1,16 @@
+package com.mockly.core.dto.availability;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Request to publish a window in which the interviewer accepts scheduled sessions.
+ */
+public record CreateAvailabilityRequest(
+        @NotNull(message = "Start time is required")
+        OffsetDateTime startsAt,
+
+        @NotNull(message = "End time is required")
+        OffsetDateTime endsAt
+) {}
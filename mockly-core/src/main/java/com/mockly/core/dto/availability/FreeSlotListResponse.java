@@ -0,0 +1,10 @@
+package com.mockly.core.dto.availability;
+
+import java.util.List;
+import java.util.UUID;
+
+public record FreeSlotListResponse(
+        UUID interviewerId,
+        int durationMinutes,
+        List<FreeSlotResponse> slots
+) {}
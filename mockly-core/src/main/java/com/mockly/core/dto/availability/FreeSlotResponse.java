@@ -0,0 +1,11 @@
+package com.mockly.core.dto.availability;
+
+import java.time.OffsetDateTime;
+
+/**
+ * A stretch of time in which a session of the requested length can be scheduled.
+ */
+public record FreeSlotResponse(
+        OffsetDateTime startsAt,
+        OffsetDateTime endsAt
+) {}
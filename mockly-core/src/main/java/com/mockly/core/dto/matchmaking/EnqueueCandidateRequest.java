@@ -0,0 +1,19 @@
+package com.mockly.core.dto.matchmaking;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Request to wait for an on-demand interview.
+ */
+public record EnqueueCandidateRequest(
+        /**
+         * Skills the candidate wants to practice (optional).
+         * Without skills the candidate is matched with the first available interviewer.
+         */
+        @Size(max = 10, message = "At most 10 skills are allowed")
+        List<@NotBlank(message = "Skill must not be blank")
+             @Size(max = 50, message = "Skill must not exceed 50 characters") String> skills
+) {}
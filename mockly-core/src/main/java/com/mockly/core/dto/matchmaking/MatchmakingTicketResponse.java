@@ -0,0 +1,14 @@
+package com.mockly.core.dto.matchmaking;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * A user's place in the matchmaking queue.
+ */
+public record MatchmakingTicketResponse(
+        String role,
+        List<String> skills,
+        OffsetDateTime enqueuedAt,
+        OffsetDateTime expiresAt
+) {}
@@ -0,0 +1,15 @@
+package com.mockly.core.dto.session;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * Request to schedule many interview sessions at once, e.g. for a bootcamp cohort.
+ */
+public record BulkCreateSessionsRequest(
+        @NotEmpty(message = "At least one session is required")
+        List<@Valid @NotNull(message = "Session entry is required") BulkSessionEntry> sessions
+) {}
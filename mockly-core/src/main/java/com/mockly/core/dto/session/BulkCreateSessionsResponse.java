@@ -0,0 +1,12 @@
+package com.mockly.core.dto.session;
+
+import java.util.List;
+
+/**
+ * Per-entry results of a bulk scheduling request, in request order.
+ */
+public record BulkCreateSessionsResponse(
+        int created,
+        int rejected,
+        List<BulkSessionResult> results
+) {}
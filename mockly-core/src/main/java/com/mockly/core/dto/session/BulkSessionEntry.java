@@ -0,0 +1,28 @@
+package com.mockly.core.dto.session;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * One session in a bulk scheduling request.
+ */
+public record BulkSessionEntry(
+        /**
+         * ID of the candidate; becomes the session's creator.
+         */
+        @NotNull(message = "Candidate ID is required")
+        UUID candidateId,
+
+        /**
+         * ID of the interviewer who will conduct the interview.
+         */
+        @NotNull(message = "Interviewer ID is required")
+        UUID interviewerId,
+
+        /**
+         * Scheduled start time for the session (optional).
+         */
+        OffsetDateTime scheduledAt
+) {}
@@ -0,0 +1,35 @@
+package com.mockly.core.dto.session;
+
+import java.util.UUID;
+
+/**
+ * Outcome of one entry of a bulk scheduling request.
+ */
+public record BulkSessionResult(
+        /**
+         * Position of the entry in the request.
+         */
+        int index,
+        Status status,
+        /**
+         * ID of the created session; null if rejected.
+         */
+        UUID sessionId,
+        /**
+         * Why the entry was rejected; null if created.
+         */
+        String error
+) {
+    public enum Status {
+        CREATED,
+        REJECTED
+    }
+
+    public static BulkSessionResult created(int index, UUID sessionId) {
+        return new BulkSessionResult(index, Status.CREATED, sessionId, null);
+    }
+
+    public static BulkSessionResult rejected(int index, String error) {
+        return new BulkSessionResult(index, Status.REJECTED, null, error);
+    }
+}
@@ -4,11 +4,13 @@ import java.util.List;
 
 /**
  * Response containing paginated list of sessions.
+ * {@code nextCursor} is an opaque keyset cursor for the following page, or null on the last page.
+ * {@code total} is only computed for offset pages; it is null on pages requested by cursor.
  */
 public record SessionListResponse(
         List<SessionResponse> sessions,
-        long total,
+        Long total,
         int page,
-        int size
+        int size,
+        String nextCursor
 ) {}
-
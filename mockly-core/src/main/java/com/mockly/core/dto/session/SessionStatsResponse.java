@@ -0,0 +1,12 @@
+package com.mockly.core.dto.session;
+
+/**
+ * Number of sessions in each status.
+ */
+public record SessionStatsResponse(
+        long scheduled,
+        long active,
+        long ended,
+        long canceled,
+        long total
+) {}
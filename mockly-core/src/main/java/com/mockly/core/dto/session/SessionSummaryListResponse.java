@@ -0,0 +1,12 @@
+package com.mockly.core.dto.session;
+
+import java.util.List;
+
+/**
+ * Response containing a page of session summaries.
+ */
+public record SessionSummaryListResponse(
+        List<SessionSummaryResponse> sessions,
+        int page,
+        int size
+) {}
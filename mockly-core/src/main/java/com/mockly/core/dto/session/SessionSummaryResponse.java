@@ -0,0 +1,19 @@
+package com.mockly.core.dto.session;
+
+import com.mockly.data.enums.SessionStatus;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Lightweight session entry for list views.
+ */
+public record SessionSummaryResponse(
+        UUID id,
+        SessionStatus status,
+        OffsetDateTime startsAt,
+        OffsetDateTime endsAt,
+        OffsetDateTime createdAt,
+        UUID counterpartId,
+        String counterpartDisplayName
+) {}
@@ -0,0 +1,14 @@
+package com.mockly.core.dto.user;
+
+import java.util.List;
+import java.util.UUID;
+
+public record InterviewerMatchResponse(
+        UUID id,
+        String name,
+        String surname,
+        String avatarUrl,
+        String level,
+        List<String> skills,
+        int matchedSkills
+) {}
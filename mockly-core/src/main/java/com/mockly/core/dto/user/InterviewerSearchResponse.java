@@ -0,0 +1,8 @@
+package com.mockly.core.dto.user;
+
+import java.util.List;
+
+public record InterviewerSearchResponse(
+        List<InterviewerMatchResponse> interviewers,
+        int total
+) {}
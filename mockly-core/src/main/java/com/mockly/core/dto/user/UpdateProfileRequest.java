@@ -1,7 +1,10 @@
 package com.mockly.core.dto.user;
 
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
+import java.util.List;
+
 public record UpdateProfileRequest(
         @Size(max = 50, message = "Name must not exceed 50 characters")
         String name,
@@ -13,6 +16,10 @@ public record UpdateProfileRequest(
         String avatarUrl,
 
         @Size(max = 50, message = "Level must not exceed 50 characters")
-        String level
+        String level,
+
+        @Size(max = 50, message = "At most 50 skills are allowed")
+        List<@NotBlank(message = "Skill must not be blank")
+             @Size(max = 50, message = "Skill must not exceed 50 characters") String> skills
 ) {}
 
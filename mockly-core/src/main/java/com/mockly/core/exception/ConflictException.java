@@ -0,0 +1,14 @@
+package com.mockly.core.exception;
+
+/**
+ * Exception thrown when a write loses to a concurrent update and cannot be applied.
+ */
+public class ConflictException extends RuntimeException {
+    public ConflictException(String message) {
+        super(message);
+    }
+
+    public ConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -3,6 +3,7 @@ package com.mockly.core.mapper;
 import com.mockly.core.dto.session.ArtifactResponse;
 import com.mockly.core.dto.session.SessionParticipantResponse;
 import com.mockly.core.dto.session.SessionResponse;
+import com.mockly.core.service.DisplayNameResolver;
 import com.mockly.data.entity.Artifact;
 import com.mockly.data.entity.Profile;
 import com.mockly.data.entity.Session;
@@ -57,24 +58,10 @@ public interface SessionMapper {
 
     /**
      * Helper method to combine name and surname into full name.
+     * Profiles come from the session's entity graph, so this does not trigger lazy loads.
      */
     default String getFullName(Profile profile) {
-        if (profile == null) {
-            return null;
-        }
-        String name = profile.getName();
-        String surname = profile.getSurname();
-        
-        if (name != null && !name.isBlank() && surname != null && !surname.isBlank()) {
-            return name + " " + surname;
-        }
-        if (name != null && !name.isBlank()) {
-            return name;
-        }
-        if (surname != null && !surname.isBlank()) {
-            return surname;
-        }
-        return null;
+        return profile != null ? DisplayNameResolver.fullName(profile.getName(), profile.getSurname()) : null;
     }
 }
 
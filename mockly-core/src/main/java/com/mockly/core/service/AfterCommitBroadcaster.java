@@ -0,0 +1,59 @@
+package com.mockly.core.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Applies a change to per-node state once the surrounding transaction commits, then announces it
+ * to other nodes over Redis pub/sub. Outside a transaction both happen immediately.
+ * <p>
+ * Running after commit keeps readers on this node from re-caching the old state. A failed
+ * broadcast is only logged, so callers must bound staleness on other nodes themselves, e.g. with
+ * entry TTLs or periodic rebuilds.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AfterCommitBroadcaster {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * Run {@code localChange} after commit, then publish {@code message} on {@code channel}.
+     */
+    public void afterCommit(Runnable localChange, String channel, String message) {
+        runAfterCommit(() -> {
+            localChange.run();
+            publish(channel, message);
+        });
+    }
+
+    /**
+     * Run an action after the surrounding transaction commits, or now if there is none.
+     */
+    public static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void publish(String channel, String message) {
+        try {
+            redisTemplate.convertAndSend(channel, message);
+        } catch (DataAccessException e) {
+            log.warn("Failed to broadcast {} on {}: {}", message, channel, e.getMessage());
+        }
+    }
+}
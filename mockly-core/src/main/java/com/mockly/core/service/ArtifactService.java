@@ -45,6 +45,7 @@ public class ArtifactService {
     private final SessionRepository sessionRepository;
     private final MinIOService minIOService;
     private final ReportService reportService;
+    private final SessionResponseCache sessionResponseCache;
 
     /**
      * Request upload URL for an artifact.
@@ -89,6 +90,7 @@ public class ArtifactService {
                 .build();
 
         artifact = artifactRepository.save(artifact);
+        sessionResponseCache.evict(sessionId);
         log.info("Created artifact record: {}", artifactId);
 
         // Generate pre-signed upload URL (valid for 1 hour)
@@ -181,6 +183,7 @@ public class ArtifactService {
 
             log.info("Saving artifact to database...");
             artifact = artifactRepository.save(artifact);
+            sessionResponseCache.evict(sessionId);
             log.info("Artifact saved successfully");
 
             // If artifact.type == AUDIO_MIXED → trigger ML pipeline automatically
@@ -0,0 +1,229 @@
+package com.mockly.core.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mockly.core.exception.TooManyRequestsException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token-bucket rate limiter for the public authentication endpoints.
+ * Buckets are keyed by client IP and, where known, by email.
+ * <p>
+ * State lives in Redis and every check is one atomic script call covering all keys.
+ * If Redis is unavailable the check falls back to an in-process striped limiter,
+ * which limits per node instead of cluster-wide. The switch is logged once, followed by a
+ * summary at most once a minute while Redis stays down and one when it is back.
+ */
+@Service
+@Slf4j
+public class AuthRateLimiter {
+
+    private static final String IP_PREFIX = "rate_limit:auth:ip:";
+    private static final String EMAIL_PREFIX = "rate_limit:auth:email:";
+    private static final int STRIPES = 64;
+    private static final long FALLBACK_SUMMARY_INTERVAL_MS = Duration.ofMinutes(1).toMillis();
+
+    /**
+     * KEYS: bucket keys. ARGV: capacity and refill-per-ms for each key, in pairs.
+     * A token is taken from every bucket only if all of them have one.
+     * Returns {allowed (0/1), retry-after in ms}.
+     */
+    private static final RedisScript<List> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local tokens = {}
+            local retry_after = 0
+            for i, key in ipairs(KEYS) do
+                local capacity = tonumber(ARGV[i * 2 - 1])
+                local refill = tonumber(ARGV[i * 2])
+                local bucket = redis.call('HMGET', key, 'tokens', 'ts')
+                local available = tonumber(bucket[1])
+                local ts = tonumber(bucket[2])
+                if available == nil then
+                    available = capacity
+                    ts = now
+                end
+                available = math.min(capacity, available + math.max(0, now - ts) * refill)
+                if available < 1 then
+                    retry_after = math.max(retry_after, math.ceil((1 - available) / refill))
+                end
+                tokens[i] = available
+            end
+            local allowed = retry_after == 0 and 1 or 0
+            for i, key in ipairs(KEYS) do
+                local capacity = tonumber(ARGV[i * 2 - 1])
+                local refill = tonumber(ARGV[i * 2])
+                redis.call('HSET', key, 'tokens', tokens[i] - allowed, 'ts', now)
+                redis.call('PEXPIRE', key, math.ceil(capacity / refill))
+            end
+            return {allowed, retry_after}
+            """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean enabled;
+    private final Limit ipLimit;
+    private final Limit emailLimit;
+
+    // Fallback state: buckets are bounded and evicted once idle, each stripe guards a slice of keys
+    private final Cache<String, LocalBucket> localBuckets;
+    private final Object[] stripes = new Object[STRIPES];
+    private final AtomicBoolean usingLocal = new AtomicBoolean();
+    private final AtomicLong localChecks = new AtomicLong();
+    private final AtomicLong lastFallbackLogAt = new AtomicLong();
+
+    public AuthRateLimiter(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${auth.rate-limit.enabled:true}") boolean enabled,
+            @Value("${auth.rate-limit.ip.capacity:50}") int ipCapacity,
+            @Value("${auth.rate-limit.ip.refill-per-minute:50}") int ipRefillPerMinute,
+            @Value("${auth.rate-limit.email.capacity:10}") int emailCapacity,
+            @Value("${auth.rate-limit.email.refill-per-minute:10}") int emailRefillPerMinute) {
+        if (ipCapacity < 1 || ipRefillPerMinute < 1 || emailCapacity < 1 || emailRefillPerMinute < 1) {
+            throw new IllegalArgumentException("Auth rate limit capacity and refill-per-minute must be positive");
+        }
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.ipLimit = new Limit(ipCapacity, ipRefillPerMinute / 60_000.0);
+        this.emailLimit = new Limit(emailCapacity, emailRefillPerMinute / 60_000.0);
+        this.localBuckets = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Object();
+        }
+    }
+
+    /**
+     * Take one token from the IP bucket and, if an email is given, from the email bucket.
+     *
+     * @param clientIp Client IP address
+     * @param email Email from the request body (nullable)
+     * @throws TooManyRequestsException if any bucket is empty
+     */
+    public void check(String clientIp, String email) {
+        if (!enabled) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>(2);
+        List<Limit> limits = new ArrayList<>(2);
+        keys.add(IP_PREFIX + clientIp);
+        limits.add(ipLimit);
+        if (email != null && !email.isBlank()) {
+            keys.add(EMAIL_PREFIX + email.trim().toLowerCase(Locale.ROOT));
+            limits.add(emailLimit);
+        }
+
+        long retryAfterMs;
+        try {
+            retryAfterMs = checkRedis(keys, limits);
+            if (usingLocal.get() && usingLocal.compareAndSet(true, false)) {
+                log.info("Redis available again for rate limiting after {} local checks", localChecks.getAndSet(0));
+            }
+        } catch (DataAccessException e) {
+            logFallback(e);
+            retryAfterMs = checkLocal(keys, limits);
+        }
+
+        if (retryAfterMs > 0) {
+            long retryAfterSeconds = Math.max(1, (retryAfterMs + 999) / 1000);
+            throw new TooManyRequestsException("Too many authentication attempts, please retry later", retryAfterSeconds);
+        }
+    }
+
+    private long checkRedis(List<String> keys, List<Limit> limits) {
+        Object[] args = new Object[limits.size() * 2];
+        for (int i = 0; i < limits.size(); i++) {
+            args[i * 2] = String.valueOf(limits.get(i).capacity());
+            args[i * 2 + 1] = String.valueOf(limits.get(i).refillPerMs());
+        }
+
+        List<?> result = redisTemplate.execute(TOKEN_BUCKET_SCRIPT, keys, args);
+        if (result == null || result.size() < 2) {
+            throw new IllegalStateException("Unexpected rate limit script result: " + result);
+        }
+        return ((Number) result.get(0)).longValue() == 1 ? 0 : ((Number) result.get(1)).longValue();
+    }
+
+    /**
+     * Log the switch to the local limiter once, then at most one summary per interval, so an
+     * outage during a burst of logins does not log every request.
+     */
+    private void logFallback(DataAccessException e) {
+        long checks = localChecks.incrementAndGet();
+        long now = System.currentTimeMillis();
+        if (usingLocal.compareAndSet(false, true)) {
+            lastFallbackLogAt.set(now);
+            log.warn("Redis unavailable for rate limiting, switching to local limiter: {}", e.getMessage());
+            return;
+        }
+        long last = lastFallbackLogAt.get();
+        if (now - last >= FALLBACK_SUMMARY_INTERVAL_MS && lastFallbackLogAt.compareAndSet(last, now)) {
+            log.warn("Redis still unavailable for rate limiting, {} local checks so far: {}", checks, e.getMessage());
+        }
+    }
+
+    private long checkLocal(List<String> keys, List<Limit> limits) {
+        // Lock stripes in index order so two keys sharing a request cannot deadlock
+        int first = stripeOf(keys.get(0));
+        int second = keys.size() > 1 ? stripeOf(keys.get(1)) : first;
+        synchronized (stripes[Math.min(first, second)]) {
+            synchronized (stripes[Math.max(first, second)]) {
+                long now = System.currentTimeMillis();
+                long retryAfterMs = 0;
+                List<LocalBucket> buckets = new ArrayList<>(keys.size());
+                for (int i = 0; i < keys.size(); i++) {
+                    Limit limit = limits.get(i);
+                    LocalBucket bucket = localBuckets.get(keys.get(i), k -> new LocalBucket(limit.capacity(), now));
+                    bucket.refill(limit, now);
+                    if (bucket.tokens < 1) {
+                        retryAfterMs = Math.max(retryAfterMs, (long) Math.ceil((1 - bucket.tokens) / limit.refillPerMs()));
+                    }
+                    buckets.add(bucket);
+                }
+                if (retryAfterMs == 0) {
+                    buckets.forEach(bucket -> bucket.tokens -= 1);
+                }
+                return retryAfterMs;
+            }
+        }
+    }
+
+    private static int stripeOf(String key) {
+        return (key.hashCode() & 0x7fffffff) % STRIPES;
+    }
+
+    private record Limit(int capacity, double refillPerMs) {}
+
+    /**
+     * Mutable bucket state, only touched while holding its key's stripe lock.
+     */
+    private static final class LocalBucket {
+        private double tokens;
+        private long timestamp;
+
+        private LocalBucket(double tokens, long timestamp) {
+            this.tokens = tokens;
+            this.timestamp = timestamp;
+        }
+
+        private void refill(Limit limit, long now) {
+            tokens = Math.min(limit.capacity(), tokens + Math.max(0, now - timestamp) * limit.refillPerMs());
+            timestamp = now;
+        }
+    }
+}
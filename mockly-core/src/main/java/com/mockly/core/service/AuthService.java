@@ -11,12 +11,17 @@ import com.mockly.core.exception.TokenInvalidException;
 import com.mockly.core.exception.UserNotFoundException;
 import com.mockly.data.entity.Profile;
 import com.mockly.data.entity.User;
+import com.mockly.data.projection.UserCredentials;
 import com.mockly.data.repository.ProfileRepository;
 import com.mockly.data.repository.UserRepository;
+import com.mockly.security.jwt.JwtPrincipal;
 import com.mockly.security.jwt.JwtTokenProvider;
+import com.mockly.security.jwt.TokenRevocationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -35,10 +40,30 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final RedisTemplate<String, String> redisTemplate;
+    private final TokenRevocationService tokenRevocationService;
+    private final InterviewerSearchService interviewerSearchService;
 
     private static final String REFRESH_TOKEN_PREFIX = "refresh_token:";
+    private static final String REFRESH_TOKEN_ROLE_PREFIX = "refresh_token_role:";
     private static final long REFRESH_TOKEN_EXPIRATION_MS = 86400000L;
 
+    /**
+     * KEYS: stored refresh token, cached role. ARGV: presented token, new token, TTL in ms.
+     * Returns {1, role} or {1} when rotated (role missing for legacy entries), {0} on mismatch.
+     */
+    private static final RedisScript<List> ROTATE_REFRESH_TOKEN_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+                return {0}
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            local role = redis.call('GET', KEYS[2])
+            if role then
+                redis.call('PEXPIRE', KEYS[2], ARGV[3])
+                return {1, role}
+            end
+            return {1}
+            """, List.class);
+
 
     @Transactional
     public TokenResponse register(RegisterRequest request) {
@@ -75,10 +100,14 @@ public class AuthService {
 
         log.info("Profile saved successfully");
 
+        if (profile.getRole() == Profile.ProfileRole.INTERVIEWER) {
+            interviewerSearchService.onProfileChanged(profile);
+        }
+
         String accessToken = jwtTokenProvider.generateAccessToken(user.getId(), request.role());
         String refreshToken = jwtTokenProvider.generateRefreshToken(user.getId());
 
-        storeRefreshToken(refreshToken, user.getId());
+        storeRefreshToken(refreshToken, user.getId(), request.role());
 
         log.info("=== REGISTRATION SUCCESS ===");
 
@@ -86,51 +115,62 @@ public class AuthService {
     }
 
     public TokenResponse login(LoginRequest request) {
-        User user = userRepository.findByEmail(request.email())
+        // Id, password hash and role come back in a single statement
+        UserCredentials credentials = userRepository.findCredentialsByEmail(request.email())
                 .orElseThrow(() -> new InvalidCredentialsException());
 
-        if (!passwordEncoder.matches(request.password(), user.getPasswordHash())) {
+        if (!passwordEncoder.matches(request.password(), credentials.passwordHash())) {
             throw new InvalidCredentialsException();
         }
 
-        Profile profile = profileRepository.findByUserId(user.getId())
-                .orElseThrow(() -> new BadRequestException("Profile not found for user"));
+        if (credentials.role() == null) {
+            throw new BadRequestException("Profile not found for user");
+        }
 
-        String accessToken = jwtTokenProvider.generateAccessToken(user.getId(), profile.getRole());
-        String refreshToken = jwtTokenProvider.generateRefreshToken(user.getId());
+        String accessToken = jwtTokenProvider.generateAccessToken(credentials.id(), credentials.role());
+        String refreshToken = jwtTokenProvider.generateRefreshToken(credentials.id());
 
-        storeRefreshToken(refreshToken, user.getId());
+        storeRefreshToken(refreshToken, credentials.id(), credentials.role());
 
-        return new TokenResponse(accessToken, refreshToken, user.getId());
+        return new TokenResponse(accessToken, refreshToken, credentials.id());
     }
 
+    /**
+     * Rotate a refresh token.
+     * The presented token is compared and replaced in one atomic Redis call that also returns
+     * the role cached at login, so concurrent refreshes cannot both succeed and no database
+     * access is needed.
+     */
     public TokenResponse refreshToken(RefreshTokenRequest request) {
-        if (!jwtTokenProvider.validateRefreshToken(request.refreshToken())) {
-            throw new TokenInvalidException("Invalid refresh token");
-        }
-
-        UUID userId;
+        JwtPrincipal principal;
         try {
-            userId = jwtTokenProvider.getUserIdFromRefreshToken(request.refreshToken());
+            principal = jwtTokenProvider.verify(request.refreshToken());
         } catch (Exception e) {
             throw new TokenInvalidException("Invalid refresh token", e);
         }
-
-        String storedToken = redisTemplate.opsForValue().get(REFRESH_TOKEN_PREFIX + userId);
-        if (storedToken == null || !storedToken.equals(request.refreshToken())) {
-            throw new TokenInvalidException("Refresh token not found or expired");
+        if (!principal.isRefreshToken()) {
+            throw new TokenInvalidException("Invalid refresh token");
         }
 
-        userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException(userId.toString()));
+        UUID userId = principal.userId();
+        String newRefreshToken = jwtTokenProvider.generateRefreshToken(userId);
 
-        Profile profile = profileRepository.findByUserId(userId)
-                .orElseThrow(() -> new BadRequestException("Profile not found for user"));
+        List<?> result = redisTemplate.execute(
+                ROTATE_REFRESH_TOKEN_SCRIPT,
+                List.of(REFRESH_TOKEN_PREFIX + userId, REFRESH_TOKEN_ROLE_PREFIX + userId),
+                request.refreshToken(),
+                newRefreshToken,
+                String.valueOf(REFRESH_TOKEN_EXPIRATION_MS)
+        );
+        if (result == null || result.isEmpty() || ((Number) result.get(0)).longValue() != 1) {
+            throw new TokenInvalidException("Refresh token not found or expired");
+        }
 
-        String newAccessToken = jwtTokenProvider.generateAccessToken(userId, profile.getRole());
-        String newRefreshToken = jwtTokenProvider.generateRefreshToken(userId);
+        Profile.ProfileRole role = result.size() > 1
+                ? Profile.ProfileRole.valueOf((String) result.get(1))
+                : loadAndCacheRole(userId);
 
-        storeRefreshToken(newRefreshToken, userId);
+        String newAccessToken = jwtTokenProvider.generateAccessToken(userId, role);
 
         return new TokenResponse(newAccessToken, newRefreshToken, userId);
     }
@@ -143,13 +183,53 @@ public class AuthService {
         }
     }
 
-    private void storeRefreshToken(String refreshToken, UUID userId) {
+    /**
+     * Logout and also revoke the access token the request was made with,
+     * so it stops working immediately instead of at its expiry.
+     */
+    @Transactional
+    public void logout(String refreshToken, String accessToken) {
+        logout(refreshToken);
+
+        if (accessToken != null && !accessToken.isBlank()) {
+            try {
+                JwtPrincipal principal = jwtTokenProvider.verify(accessToken);
+                if (principal.isAccessToken()) {
+                    tokenRevocationService.revoke(principal);
+                }
+            } catch (Exception e) {
+                log.debug("Ignoring invalid access token on logout: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void storeRefreshToken(String refreshToken, UUID userId, Profile.ProfileRole role) {
         redisTemplate.opsForValue().set(
                 REFRESH_TOKEN_PREFIX + userId,
                 refreshToken,
                 REFRESH_TOKEN_EXPIRATION_MS,
                 TimeUnit.MILLISECONDS
         );
+        cacheRole(userId, role);
+    }
+
+    /**
+     * Fallback for refresh tokens issued before the role was cached next to them.
+     */
+    private Profile.ProfileRole loadAndCacheRole(UUID userId) {
+        Profile.ProfileRole role = profileRepository.findRoleByUserId(userId)
+                .orElseThrow(() -> new UserNotFoundException(userId.toString()));
+        cacheRole(userId, role);
+        return role;
+    }
+
+    private void cacheRole(UUID userId, Profile.ProfileRole role) {
+        redisTemplate.opsForValue().set(
+                REFRESH_TOKEN_ROLE_PREFIX + userId,
+                role.name(),
+                REFRESH_TOKEN_EXPIRATION_MS,
+                TimeUnit.MILLISECONDS
+        );
     }
 }
 
@@ -0,0 +1,259 @@
+package com.mockly.core.service;
+
+import com.mockly.core.dto.session.BulkCreateSessionsRequest;
+import com.mockly.core.dto.session.BulkCreateSessionsResponse;
+import com.mockly.core.dto.session.BulkSessionEntry;
+import com.mockly.core.dto.session.BulkSessionResult;
+import com.mockly.core.exception.BadRequestException;
+import com.mockly.core.exception.ForbiddenException;
+import com.mockly.core.service.InterviewerCalendarService.Booking;
+import com.mockly.data.entity.Session;
+import com.mockly.data.entity.SessionParticipant;
+import com.mockly.data.enums.ParticipantRole;
+import com.mockly.data.enums.SessionStatus;
+import com.mockly.data.repository.ProfileRepository;
+import com.mockly.data.repository.SessionBatchWriter;
+import com.mockly.data.repository.SessionRepository;
+import com.mockly.data.repository.SessionStatusCounterRepository.Transition;
+import com.mockly.data.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Schedules many interview sessions in one request, e.g. a bootcamp cohort.
+ * <p>
+ * All entries are validated up front with one query for the users and one for open sessions,
+ * and interviewer conflicts are checked against the in-memory calendars. Accepted entries are
+ * then inserted in chunks, each chunk in its own transaction: lock the chunk's interviewers and
+ * re-check their bookings, then insert sessions and participants as JDBC batches. A failing chunk
+ * rejects only its own entries.
+ * <p>
+ * The same rules as {@link SessionService#createSession} apply: the candidate becomes the
+ * session's creator and may have only one scheduled or active session. The caller must be the
+ * interviewer of every entry, so nobody can book another interviewer's calendar or take up a
+ * candidate's open-session slot on someone else's behalf.
+ */
+@Service
+@Slf4j
+public class BulkSessionService {
+
+    private static final String OPEN_SESSION_EXISTS = "User already has an active session";
+
+    /**
+     * An accepted entry waiting to be inserted.
+     */
+    private record Pending(int index, UUID sessionId, BulkSessionEntry entry) {}
+
+    private final UserRepository userRepository;
+    private final ProfileRepository profileRepository;
+    private final SessionRepository sessionRepository;
+    private final SessionBatchWriter sessionBatchWriter;
+    private final LiveKitService liveKitService;
+    private final InterviewerCalendarService interviewerCalendar;
+    private final SessionStatsService sessionStats;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxSessions;
+    private final int chunkSize;
+
+    public BulkSessionService(
+            UserRepository userRepository,
+            ProfileRepository profileRepository,
+            SessionRepository sessionRepository,
+            SessionBatchWriter sessionBatchWriter,
+            LiveKitService liveKitService,
+            InterviewerCalendarService interviewerCalendar,
+            SessionStatsService sessionStats,
+            PlatformTransactionManager transactionManager,
+            @Value("${session.bulk.max-sessions:1000}") int maxSessions,
+            @Value("${session.bulk.chunk-size:200}") int chunkSize) {
+        this.userRepository = userRepository;
+        this.profileRepository = profileRepository;
+        this.sessionRepository = sessionRepository;
+        this.sessionBatchWriter = sessionBatchWriter;
+        this.liveKitService = liveKitService;
+        this.interviewerCalendar = interviewerCalendar;
+        this.sessionStats = sessionStats;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxSessions = maxSessions;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * Schedule many sessions. Only interviewers may call it, and only for sessions they conduct.
+     *
+     * @param userId ID of the user scheduling the sessions
+     * @param request Sessions to create
+     * @return Result per entry, in request order
+     */
+    public BulkCreateSessionsResponse createSessions(UUID userId, BulkCreateSessionsRequest request) {
+        List<BulkSessionEntry> entries = request.sessions();
+        if (entries.size() > maxSessions) {
+            throw new BadRequestException("At most " + maxSessions + " sessions can be scheduled at once");
+        }
+        if (profileRepository.findInterviewerView(userId).isEmpty()) {
+            throw new ForbiddenException("Only interviewers can schedule sessions in bulk");
+        }
+        log.info("Bulk scheduling {} sessions for user: {}", entries.size(), userId);
+
+        BulkSessionResult[] results = new BulkSessionResult[entries.size()];
+        List<Pending> pending = validate(userId, entries, results);
+
+        for (int from = 0; from < pending.size(); from += chunkSize) {
+            List<Pending> chunk = pending.subList(from, Math.min(from + chunkSize, pending.size()));
+            try {
+                insertChunk(chunk, results);
+            } catch (DataAccessException e) {
+                log.warn("Bulk session chunk of {} failed: {}", chunk.size(), e.getMessage());
+                chunk.forEach(p -> results[p.index()] = BulkSessionResult.rejected(
+                        p.index(), "Could not create session, please retry"));
+            }
+        }
+
+        List<BulkSessionResult> ordered = Arrays.asList(results);
+        int created = (int) ordered.stream().filter(r -> r.status() == BulkSessionResult.Status.CREATED).count();
+        log.info("Bulk scheduled {} of {} sessions for user: {}", created, entries.size(), userId);
+        return new BulkCreateSessionsResponse(created, entries.size() - created, ordered);
+    }
+
+    /**
+     * Reject invalid entries in {@code results} and return the rest with their session IDs.
+     */
+    private List<Pending> validate(UUID userId, List<BulkSessionEntry> entries, BulkSessionResult[] results) {
+        Set<UUID> userIds = new HashSet<>();
+        Set<UUID> candidateIds = new HashSet<>();
+        for (BulkSessionEntry entry : entries) {
+            userIds.add(entry.candidateId());
+            userIds.add(entry.interviewerId());
+            candidateIds.add(entry.candidateId());
+        }
+        Set<UUID> existing = new HashSet<>(userRepository.findExistingIds(userIds));
+        // Also tracks candidates taken by earlier entries of this request
+        Set<UUID> busyCandidates = new HashSet<>(sessionRepository.findCreatorsWithOpenSession(candidateIds));
+
+        List<Pending> pending = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            BulkSessionEntry entry = entries.get(i);
+            String error = null;
+            if (!entry.interviewerId().equals(userId)) {
+                error = "Interviewers can only schedule their own sessions";
+            } else if (entry.candidateId().equals(entry.interviewerId())) {
+                error = "Interviewer must be a different user";
+            } else if (!existing.contains(entry.candidateId())) {
+                error = "User not found: " + entry.candidateId();
+            } else if (!existing.contains(entry.interviewerId())) {
+                error = "Interviewer not found: " + entry.interviewerId();
+            } else if (!busyCandidates.add(entry.candidateId())) {
+                error = OPEN_SESSION_EXISTS;
+            }
+
+            if (error != null) {
+                results[i] = BulkSessionResult.rejected(i, error);
+            } else {
+                pending.add(new Pending(i, UUID.randomUUID(), entry));
+            }
+        }
+
+        Map<UUID, String> conflicts = interviewerCalendar.findConflicts(bookings(pending));
+        return reject(pending, conflicts, results);
+    }
+
+    /**
+     * Insert one chunk in its own transaction. Results are written as rows are decided; if the
+     * transaction fails, the caller overwrites the whole chunk.
+     */
+    private void insertChunk(List<Pending> chunk, BulkSessionResult[] results) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Pending> accepted = reject(chunk, interviewerCalendar.lockAndFindConflicts(bookings(chunk)), results);
+            if (accepted.isEmpty()) {
+                return;
+            }
+
+            OffsetDateTime now = OffsetDateTime.now();
+            boolean[] inserted = sessionBatchWriter.insertSessions(
+                    accepted.stream().map(p -> newSession(p, now)).toList());
+
+            List<SessionParticipant> participants = new ArrayList<>();
+            List<Pending> booked = new ArrayList<>();
+            for (int i = 0; i < accepted.size(); i++) {
+                Pending p = accepted.get(i);
+                if (!inserted[i]) {
+                    // The candidate created a session after validation
+                    results[p.index()] = BulkSessionResult.rejected(p.index(), OPEN_SESSION_EXISTS);
+                    continue;
+                }
+                participants.add(newParticipant(p.sessionId(), p.entry().candidateId(), ParticipantRole.CANDIDATE));
+                participants.add(newParticipant(p.sessionId(), p.entry().interviewerId(), ParticipantRole.INTERVIEWER));
+                booked.add(p);
+                results[p.index()] = BulkSessionResult.created(p.index(), p.sessionId());
+            }
+            if (!booked.isEmpty()) {
+                sessionBatchWriter.insertParticipants(participants);
+                sessionStats.recordTransitions(booked.stream()
+                        .map(p -> new Transition(p.sessionId(), null, SessionStatus.SCHEDULED))
+                        .toList());
+                interviewerCalendar.onSessionsBooked(bookings(booked));
+            }
+        });
+    }
+
+    private Session newSession(Pending pending, OffsetDateTime now) {
+        return Session.builder()
+                .id(pending.sessionId())
+                .createdBy(pending.entry().candidateId())
+                .status(SessionStatus.SCHEDULED)
+                .startsAt(pending.entry().scheduledAt())
+                .roomProvider("livekit")
+                .roomId(liveKitService.createRoom(pending.sessionId()))
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    private static SessionParticipant newParticipant(UUID sessionId, UUID userId, ParticipantRole role) {
+        return SessionParticipant.builder()
+                .id(UUID.randomUUID())
+                .sessionId(sessionId)
+                .userId(userId)
+                .roleInSession(role)
+                .build();
+    }
+
+    private static List<Booking> bookings(List<Pending> pending) {
+        return pending.stream()
+                .filter(p -> p.entry().scheduledAt() != null)
+                .map(p -> new Booking(p.sessionId(), p.entry().interviewerId(), p.entry().scheduledAt()))
+                .toList();
+    }
+
+    /**
+     * Record the conflicting entries as rejected and return the others.
+     */
+    private static List<Pending> reject(List<Pending> pending, Map<UUID, String> conflicts, BulkSessionResult[] results) {
+        if (conflicts.isEmpty()) {
+            return pending;
+        }
+        List<Pending> remaining = new ArrayList<>();
+        for (Pending p : pending) {
+            String conflict = conflicts.get(p.sessionId());
+            if (conflict != null) {
+                results[p.index()] = BulkSessionResult.rejected(p.index(), conflict);
+            } else {
+                remaining.add(p);
+            }
+        }
+        return remaining;
+    }
+}
@@ -0,0 +1,151 @@
+package com.mockly.core.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mockly.data.projection.DisplayNameView;
+import com.mockly.data.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Resolves user display names, many at a time, from one query plus a bounded per-node cache.
+ * <p>
+ * {@link UserService#updateProfile} calls {@link #invalidate} after changing a name; the eviction
+ * runs after commit and is broadcast over Redis pub/sub so every node drops its copy. Entries also
+ * expire, which bounds staleness if an invalidation is lost.
+ */
+@Service
+@Slf4j
+public class DisplayNameResolver implements MessageListener {
+
+    static final String INVALIDATION_CHANNEL = "display-name:invalidations";
+    static final String UNKNOWN_USER = "User";
+
+    private final UserRepository userRepository;
+    private final AfterCommitBroadcaster broadcaster;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Cache<UUID, String> cache;
+    // Bumped per user on every invalidation so a load that raced with one is not cached
+    private final InvalidationGenerations generations = new InvalidationGenerations();
+
+    public DisplayNameResolver(
+            UserRepository userRepository,
+            AfterCommitBroadcaster broadcaster,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${user.display-name-cache.max-size:10000}") long maxSize,
+            @Value("${user.display-name-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.broadcaster = broadcaster;
+        this.listenerContainer = listenerContainer;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    @PostConstruct
+    void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * Display name of one user.
+     *
+     * @param userId User ID
+     * @return Name and surname, otherwise email, otherwise "User" for an unknown ID
+     */
+    public String resolve(UUID userId) {
+        return resolveAll(Set.of(userId)).get(userId);
+    }
+
+    /**
+     * Display names of several users; cache misses are loaded with a single query.
+     *
+     * @param userIds User IDs
+     * @return Display name per requested ID (unknown IDs map to "User")
+     */
+    public Map<UUID, String> resolveAll(Collection<UUID> userIds) {
+        Set<UUID> ids = new LinkedHashSet<>(userIds);
+        Map<UUID, String> names = new HashMap<>(cache.getAllPresent(ids));
+        ids.removeAll(names.keySet());
+        if (ids.isEmpty()) {
+            return names;
+        }
+
+        Map<UUID, Long> generationsBefore = new HashMap<>();
+        ids.forEach(id -> generationsBefore.put(id, generations.get(id)));
+        Map<UUID, String> loaded = new HashMap<>();
+        for (DisplayNameView view : userRepository.findDisplayNamesByIdIn(ids)) {
+            loaded.put(view.userId(), format(view.name(), view.surname(), view.email()));
+        }
+        loaded.forEach((id, name) -> {
+            if (generations.get(id) == generationsBefore.get(id)) {
+                cache.put(id, name);
+            }
+        });
+
+        names.putAll(loaded);
+        ids.forEach(id -> names.putIfAbsent(id, UNKNOWN_USER));
+        return names;
+    }
+
+    /**
+     * Drop a user's name on every node, after the surrounding transaction commits.
+     */
+    public void invalidate(UUID userId) {
+        broadcaster.afterCommit(() -> invalidateLocal(userId), INVALIDATION_CHANNEL, userId.toString());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            invalidateLocal(UUID.fromString(body));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed display name invalidation: {}", body);
+        }
+    }
+
+    /**
+     * Name and surname when both are set, otherwise whichever is set, otherwise null.
+     */
+    public static String fullName(String name, String surname) {
+        boolean hasName = name != null && !name.isBlank();
+        boolean hasSurname = surname != null && !surname.isBlank();
+        if (hasName && hasSurname) {
+            return name + " " + surname;
+        }
+        if (hasName) {
+            return name;
+        }
+        return hasSurname ? surname : null;
+    }
+
+    /**
+     * {@link #fullName}, falling back to the email.
+     */
+    public static String format(String name, String surname, String email) {
+        String fullName = fullName(name, surname);
+        return fullName != null ? fullName : email;
+    }
+
+    private void invalidateLocal(UUID userId) {
+        generations.bump(userId);
+        cache.invalidate(userId);
+    }
+}
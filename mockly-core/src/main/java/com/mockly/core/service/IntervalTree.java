@@ -0,0 +1,182 @@
+package com.mockly.core.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Immutable set of half-open time intervals {@code [start, end)} in epoch milliseconds.
+ * <p>
+ * Intervals are kept sorted by start next to the running maximum of their ends, which is the array
+ * form of an augmented interval tree: the first interval that can reach past a point is found by
+ * binary search, so an overlap test costs O(log n) and a walk over k intervals O(log n + k), even
+ * when intervals overlap each other. Updates copy the arrays, so readers never lock; that suits a
+ * calendar, which is read far more often than written.
+ */
+final class IntervalTree {
+
+    /**
+     * An interval and the ID of what it represents (an availability window or a session).
+     */
+    record Interval(long start, long end, UUID id) {}
+
+    static final IntervalTree EMPTY = new IntervalTree(new Interval[0]);
+
+    private static final Comparator<Interval> BY_START =
+            Comparator.comparingLong(Interval::start).thenComparingLong(Interval::end);
+
+    private final Interval[] intervals;
+    // maxEnd[i] = max end of intervals[0..i]; never decreases
+    private final long[] maxEnd;
+
+    private IntervalTree(Interval[] sorted) {
+        this.intervals = sorted;
+        this.maxEnd = new long[sorted.length];
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < sorted.length; i++) {
+            max = Math.max(max, sorted[i].end());
+            maxEnd[i] = max;
+        }
+    }
+
+    static IntervalTree of(Collection<Interval> intervals) {
+        Interval[] sorted = intervals.toArray(Interval[]::new);
+        Arrays.sort(sorted, BY_START);
+        return new IntervalTree(sorted);
+    }
+
+    IntervalTree with(Interval interval) {
+        int at = Arrays.binarySearch(intervals, interval, BY_START);
+        at = at < 0 ? -at - 1 : at;
+        Interval[] next = new Interval[intervals.length + 1];
+        System.arraycopy(intervals, 0, next, 0, at);
+        next[at] = interval;
+        System.arraycopy(intervals, at, next, at + 1, intervals.length - at);
+        return new IntervalTree(next);
+    }
+
+    IntervalTree without(UUID id) {
+        Interval[] next = Arrays.stream(intervals).filter(i -> !i.id().equals(id)).toArray(Interval[]::new);
+        return next.length == intervals.length ? this : new IntervalTree(next);
+    }
+
+    int size() {
+        return intervals.length;
+    }
+
+    boolean isEmpty() {
+        return intervals.length == 0;
+    }
+
+    List<Interval> intervals() {
+        return List.of(intervals);
+    }
+
+    /**
+     * Whether any interval overlaps {@code [start, end)}.
+     */
+    boolean overlaps(long start, long end) {
+        // Intervals starting before `end` are a prefix; one of them overlaps iff the furthest end passes `start`
+        int last = lastStartingBefore(end);
+        return last >= 0 && maxEnd[last] > start;
+    }
+
+    /**
+     * Whether the union of the intervals contains all of {@code [start, end)}.
+     */
+    boolean covers(long start, long end) {
+        long reach = start;
+        for (int i = firstReaching(start); i < intervals.length && intervals[i].start() <= reach; i++) {
+            reach = Math.max(reach, intervals[i].end());
+            if (reach >= end) {
+                return true;
+            }
+        }
+        return reach >= end;
+    }
+
+    /**
+     * Stretches of at least {@code minLength} inside both {@code [from, to)} and the union of these
+     * intervals that no interval of {@code busy} overlaps, earliest first.
+     */
+    List<long[]> freeWithin(IntervalTree busy, long from, long to, long minLength, int limit) {
+        List<long[]> free = new ArrayList<>();
+        int i = firstReaching(from);
+        while (i < intervals.length && intervals[i].start() < to && free.size() < limit) {
+            // Merge overlapping or touching intervals into one segment
+            long segmentStart = Math.max(intervals[i].start(), from);
+            long segmentEnd = intervals[i].end();
+            for (i++; i < intervals.length && intervals[i].start() <= segmentEnd; i++) {
+                segmentEnd = Math.max(segmentEnd, intervals[i].end());
+            }
+            segmentEnd = Math.min(segmentEnd, to);
+            if (segmentStart < segmentEnd) {
+                busy.gaps(segmentStart, segmentEnd, minLength, limit, free);
+            }
+        }
+        return free;
+    }
+
+    /**
+     * Append the parts of {@code [start, end)} not covered by any interval.
+     */
+    private void gaps(long start, long end, long minLength, int limit, List<long[]> out) {
+        long cursor = start;
+        for (int i = firstReaching(start); i < intervals.length && intervals[i].start() < end; i++) {
+            Interval busy = intervals[i];
+            if (busy.end() <= cursor) {
+                continue;
+            }
+            if (busy.start() > cursor) {
+                addGap(cursor, busy.start(), minLength, limit, out);
+            }
+            cursor = busy.end();
+        }
+        if (cursor < end) {
+            addGap(cursor, end, minLength, limit, out);
+        }
+    }
+
+    private static void addGap(long start, long end, long minLength, int limit, List<long[]> out) {
+        if (end - start >= minLength && out.size() < limit) {
+            out.add(new long[]{start, end});
+        }
+    }
+
+    /**
+     * Index of the first interval whose prefix reaches past {@code point}; earlier ones all end by it.
+     */
+    private int firstReaching(long point) {
+        int low = 0;
+        int high = intervals.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (maxEnd[mid] > point) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Index of the last interval starting before {@code point}, or -1.
+     */
+    private int lastStartingBefore(long point) {
+        int low = 0;
+        int high = intervals.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (intervals[mid].start() < point) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low - 1;
+    }
+}
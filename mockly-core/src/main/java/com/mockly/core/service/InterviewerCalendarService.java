@@ -0,0 +1,537 @@
+package com.mockly.core.service;
+
+import com.mockly.core.dto.availability.AvailabilityResponse;
+import com.mockly.core.dto.availability.CreateAvailabilityRequest;
+import com.mockly.core.dto.availability.FreeSlotListResponse;
+import com.mockly.core.dto.availability.FreeSlotResponse;
+import com.mockly.core.exception.BadRequestException;
+import com.mockly.core.exception.ForbiddenException;
+import com.mockly.core.exception.ResourceNotFoundException;
+import com.mockly.data.entity.InterviewerAvailability;
+import com.mockly.data.entity.SessionParticipant;
+import com.mockly.data.enums.ParticipantRole;
+import com.mockly.data.projection.BookedSlotView;
+import com.mockly.data.repository.InterviewerAvailabilityRepository;
+import com.mockly.data.repository.ProfileRepository;
+import com.mockly.data.repository.SessionParticipantRepository;
+import com.mockly.data.repository.SessionRepository;
+import com.mockly.data.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Interviewer calendars: published availability windows and booked sessions, kept per node as
+ * one pair of {@link IntervalTree}s per interviewer.
+ * <p>
+ * Calendars are loaded from the database at startup and rebuilt periodically, which also drops
+ * past intervals. Writes update the local calendar after commit and are announced over Redis
+ * pub/sub, so other nodes reload just that interviewer.
+ * <p>
+ * Local bookings can lag behind the database, e.g. after a missed announcement, so they only
+ * serve reads such as free slots; whether a slot is already booked is always decided by
+ * re-reading the interviewer's bookings under a lock.
+ * <p>
+ * A session booked without an end time occupies the configured default session length.
+ */
+@Service
+@Slf4j
+public class InterviewerCalendarService implements MessageListener {
+
+    static final String UPDATE_CHANNEL = "interviewer-calendar:updates";
+    private static final Duration MAX_WINDOW = Duration.ofHours(24);
+    private static final Duration MAX_SEARCH_RANGE = Duration.ofDays(31);
+    private static final int MAX_WINDOWS_PER_INTERVIEWER = 200;
+    private static final int MAX_SLOTS = 100;
+    private static final String ALREADY_BOOKED = "Interviewer is already booked at this time";
+
+    /**
+     * A session to be booked into an interviewer's calendar.
+     */
+    public record Booking(UUID sessionId, UUID interviewerId, OffsetDateTime startsAt) {}
+
+    /**
+     * Availability windows and booked sessions of one interviewer.
+     */
+    private record Calendar(IntervalTree availability, IntervalTree bookings) {
+        static final Calendar EMPTY = new Calendar(IntervalTree.EMPTY, IntervalTree.EMPTY);
+    }
+
+    private final InterviewerAvailabilityRepository availabilityRepository;
+    private final SessionRepository sessionRepository;
+    private final SessionParticipantRepository participantRepository;
+    private final ProfileRepository profileRepository;
+    private final UserRepository userRepository;
+    private final AfterCommitBroadcaster broadcaster;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Duration sessionDuration;
+    private final ConcurrentMap<UUID, Calendar> calendars = new ConcurrentHashMap<>();
+    // Session ID -> interviewer ID, so a closed session can be removed from the right calendar
+    private final ConcurrentMap<UUID, UUID> bookingOwners = new ConcurrentHashMap<>();
+    // Lets a node ignore its own announcements, which it has already applied
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public InterviewerCalendarService(
+            InterviewerAvailabilityRepository availabilityRepository,
+            SessionRepository sessionRepository,
+            SessionParticipantRepository participantRepository,
+            ProfileRepository profileRepository,
+            UserRepository userRepository,
+            AfterCommitBroadcaster broadcaster,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${interviewer.calendar.default-session-minutes:60}") long sessionMinutes) {
+        this.availabilityRepository = availabilityRepository;
+        this.sessionRepository = sessionRepository;
+        this.participantRepository = participantRepository;
+        this.profileRepository = profileRepository;
+        this.userRepository = userRepository;
+        this.broadcaster = broadcaster;
+        this.listenerContainer = listenerContainer;
+        this.sessionDuration = Duration.ofMinutes(sessionMinutes);
+    }
+
+    @PostConstruct
+    void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(UPDATE_CHANNEL));
+    }
+
+    /**
+     * Publish an availability window for the current interviewer.
+     *
+     * @param interviewerId Interviewer ID
+     * @param request Window start and end
+     * @return Created window
+     */
+    @Transactional
+    public AvailabilityResponse addAvailability(UUID interviewerId, CreateAvailabilityRequest request) {
+        requireInterviewer(interviewerId);
+        if (!request.endsAt().isAfter(request.startsAt())) {
+            throw new BadRequestException("Availability must end after it starts");
+        }
+        if (!request.endsAt().isAfter(OffsetDateTime.now())) {
+            throw new BadRequestException("Availability must end in the future");
+        }
+        if (Duration.between(request.startsAt(), request.endsAt()).compareTo(MAX_WINDOW) > 0) {
+            throw new BadRequestException("Availability window must not exceed " + MAX_WINDOW.toHours() + " hours");
+        }
+        if (calendar(interviewerId).availability().size() >= MAX_WINDOWS_PER_INTERVIEWER) {
+            throw new BadRequestException("At most " + MAX_WINDOWS_PER_INTERVIEWER + " availability windows are allowed");
+        }
+
+        InterviewerAvailability window = availabilityRepository.save(InterviewerAvailability.builder()
+                .interviewerId(interviewerId)
+                .startsAt(request.startsAt())
+                .endsAt(request.endsAt())
+                .build());
+
+        IntervalTree.Interval interval = toInterval(window);
+        afterCommit(interviewerId, () -> calendars.compute(interviewerId, (id, calendar) -> {
+            Calendar current = calendar != null ? calendar : Calendar.EMPTY;
+            return new Calendar(current.availability().with(interval), current.bookings());
+        }));
+
+        log.info("Interviewer {} published availability {}", interviewerId, window.getId());
+        return toResponse(interval);
+    }
+
+    /**
+     * Remove one of the current interviewer's availability windows.
+     * Sessions already booked inside it are kept.
+     */
+    @Transactional
+    public void deleteAvailability(UUID interviewerId, UUID availabilityId) {
+        InterviewerAvailability window = availabilityRepository.findByIdAndInterviewerId(availabilityId, interviewerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Availability not found: " + availabilityId));
+        availabilityRepository.delete(window);
+
+        afterCommit(interviewerId, () -> calendars.computeIfPresent(interviewerId, (id, calendar) ->
+                new Calendar(calendar.availability().without(availabilityId), calendar.bookings())));
+    }
+
+    /**
+     * Upcoming availability windows of an interviewer, earliest first.
+     */
+    public List<AvailabilityResponse> getAvailability(UUID interviewerId) {
+        long now = System.currentTimeMillis();
+        return calendar(interviewerId).availability().intervals().stream()
+                .filter(interval -> interval.end() > now)
+                .map(InterviewerCalendarService::toResponse)
+                .toList();
+    }
+
+    /**
+     * Find free stretches of an interviewer's availability that fit a session of the given length.
+     *
+     * @param interviewerId Interviewer ID
+     * @param from Range start; clamped to now
+     * @param to Range end (at most 31 days after {@code from})
+     * @param durationMinutes Required length
+     * @param limit Maximum number of slots (1-100)
+     * @return Free slots, earliest first
+     */
+    public FreeSlotListResponse findFreeSlots(
+            UUID interviewerId, OffsetDateTime from, OffsetDateTime to, int durationMinutes, int limit) {
+        if (limit < 1 || limit > MAX_SLOTS) {
+            throw new BadRequestException("Limit must be between 1 and " + MAX_SLOTS);
+        }
+        if (durationMinutes < 1 || durationMinutes > MAX_WINDOW.toMinutes()) {
+            throw new BadRequestException("Duration must be between 1 and " + MAX_WINDOW.toMinutes() + " minutes");
+        }
+        if (!to.isAfter(from)) {
+            throw new BadRequestException("Range must end after it starts");
+        }
+        if (Duration.between(from, to).compareTo(MAX_SEARCH_RANGE) > 0) {
+            throw new BadRequestException("Range must not exceed " + MAX_SEARCH_RANGE.toDays() + " days");
+        }
+
+        long start = Math.max(from.toInstant().toEpochMilli(), System.currentTimeMillis());
+        Calendar calendar = calendar(interviewerId);
+        List<FreeSlotResponse> slots = calendar.availability()
+                .freeWithin(calendar.bookings(), start, to.toInstant().toEpochMilli(),
+                        Duration.ofMinutes(durationMinutes).toMillis(), limit)
+                .stream()
+                .map(slot -> new FreeSlotResponse(toOffsetDateTime(slot[0]), toOffsetDateTime(slot[1])))
+                .toList();
+
+        return new FreeSlotListResponse(interviewerId, durationMinutes, slots);
+    }
+
+    /**
+     * Check that an interviewer can take a session starting at the given time, failing with
+     * {@link BadRequestException} if not. Must run inside the transaction that books the session:
+     * after a quick check of the time and availability against this node's calendar, the
+     * interviewer's row is locked and the bookings are re-read, so concurrent bookings on any node
+     * cannot both pass. Interviewers without any published availability are only checked for
+     * double booking.
+     */
+    public void checkBookable(UUID interviewerId, OffsetDateTime startsAt) {
+        long start = startsAt.toInstant().toEpochMilli();
+        long end = start + sessionDuration.toMillis();
+        String conflict = conflict(availabilityOf(interviewerId), start, end, System.currentTimeMillis());
+        if (conflict != null) {
+            throw new BadRequestException(conflict);
+        }
+
+        userRepository.lockById(interviewerId);
+        List<IntervalTree.Interval> booked = sessionRepository
+                .findInterviewerBookedSlots(interviewerId, startsAt.minus(sessionDuration))
+                .stream()
+                .map(this::toInterval)
+                .toList();
+        if (IntervalTree.of(booked).overlaps(start, end)) {
+            throw new BadRequestException(ALREADY_BOOKED);
+        }
+    }
+
+    /**
+     * Check many prospective bookings against this node's availability windows and against each
+     * other, without touching the database. Bookings are taken in order, so of two overlapping
+     * bookings of one interviewer the later one is rejected. Existing bookings are only checked by
+     * {@link #lockAndFindConflicts}.
+     *
+     * @return Rejection reason per session ID; bookings missing from the map fit
+     */
+    public Map<UUID, String> findConflicts(List<Booking> bookings) {
+        return conflicts(bookings, this::availabilityOf);
+    }
+
+    /**
+     * {@link #findConflicts}, re-reading bookings from the database. Must run inside the transaction
+     * that inserts the bookings: the interviewers' rows are locked in ID order first, so concurrent
+     * bookings on any node cannot both pass.
+     */
+    public Map<UUID, String> lockAndFindConflicts(List<Booking> bookings) {
+        if (bookings.isEmpty()) {
+            return Map.of();
+        }
+
+        Set<UUID> interviewerIds = bookings.stream().map(Booking::interviewerId).collect(Collectors.toSet());
+        OffsetDateTime since = bookings.stream()
+                .map(Booking::startsAt)
+                .min(Comparator.naturalOrder())
+                .orElseThrow()
+                .minus(sessionDuration);
+
+        userRepository.lockAllByIdIn(interviewerIds);
+        Map<UUID, List<IntervalTree.Interval>> booked = new HashMap<>();
+        for (BookedSlotView slot : sessionRepository.findInterviewersBookedSlots(interviewerIds, since)) {
+            booked.computeIfAbsent(slot.interviewerId(), id -> new ArrayList<>()).add(toInterval(slot));
+        }
+        return conflicts(bookings, interviewerId -> new Calendar(
+                calendar(interviewerId).availability(),
+                IntervalTree.of(booked.getOrDefault(interviewerId, List.of()))));
+    }
+
+    /**
+     * Add a newly scheduled session to its interviewer's calendar after commit.
+     */
+    public void onSessionBooked(UUID sessionId, UUID interviewerId, OffsetDateTime startsAt) {
+        onSessionsBooked(List.of(new Booking(sessionId, interviewerId, startsAt)));
+    }
+
+    /**
+     * Add newly scheduled sessions to their interviewers' calendars after commit, announcing each
+     * interviewer once.
+     */
+    public void onSessionsBooked(List<Booking> bookings) {
+        Map<UUID, List<Booking>> byInterviewer = bookings.stream()
+                .collect(Collectors.groupingBy(Booking::interviewerId));
+        byInterviewer.forEach((interviewerId, booked) -> {
+            List<IntervalTree.Interval> intervals = booked.stream()
+                    .map(booking -> toInterval(new BookedSlotView(
+                            booking.sessionId(), interviewerId, booking.startsAt(), null)))
+                    .toList();
+            afterCommit(interviewerId, () -> {
+                booked.forEach(booking -> bookingOwners.put(booking.sessionId(), interviewerId));
+                calendars.compute(interviewerId, (id, calendar) -> {
+                    Calendar current = calendar != null ? calendar : Calendar.EMPTY;
+                    List<IntervalTree.Interval> all = new ArrayList<>(current.bookings().intervals());
+                    all.addAll(intervals);
+                    return new Calendar(current.availability(), IntervalTree.of(all));
+                });
+            });
+        });
+    }
+
+    /**
+     * Move a session's slot to the time it actually started, after commit.
+     */
+    public void onSessionStarted(UUID sessionId, OffsetDateTime startedAt) {
+        interviewersOf(List.of(sessionId)).forEach((interviewerId, started) -> {
+            IntervalTree.Interval interval = toInterval(new BookedSlotView(sessionId, interviewerId, startedAt, null));
+            afterCommit(interviewerId, () -> {
+                bookingOwners.put(sessionId, interviewerId);
+                calendars.compute(interviewerId, (id, calendar) -> {
+                    Calendar current = calendar != null ? calendar : Calendar.EMPTY;
+                    return new Calendar(current.availability(), current.bookings().without(sessionId).with(interval));
+                });
+            });
+        });
+    }
+
+    /**
+     * Free the slot of a session that ended or was cancelled, after commit.
+     */
+    public void onSessionClosed(UUID sessionId) {
+        onSessionsClosed(List.of(sessionId));
+    }
+
+    /**
+     * Free the slots of sessions that ended or were cancelled, after commit, announcing each
+     * interviewer once.
+     */
+    public void onSessionsClosed(Collection<UUID> sessionIds) {
+        interviewersOf(sessionIds).forEach((interviewerId, closed) -> afterCommit(interviewerId, () -> {
+            bookingOwners.keySet().removeAll(closed);
+            calendars.computeIfPresent(interviewerId, (id, calendar) -> {
+                IntervalTree bookings = calendar.bookings();
+                for (UUID sessionId : closed) {
+                    bookings = bookings.without(sessionId);
+                }
+                return new Calendar(calendar.availability(), bookings);
+            });
+        }));
+    }
+
+    /**
+     * Reload every calendar and swap them in.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${interviewer.calendar.rebuild-interval-ms:600000}",
+            fixedDelayString = "${interviewer.calendar.rebuild-interval-ms:600000}"
+    )
+    public void rebuild() {
+        OffsetDateTime now = OffsetDateTime.now();
+        Map<UUID, List<IntervalTree.Interval>> windows = new HashMap<>();
+        for (InterviewerAvailability window : availabilityRepository.findByEndsAtAfter(now)) {
+            windows.computeIfAbsent(window.getInterviewerId(), id -> new ArrayList<>()).add(toInterval(window));
+        }
+        Map<UUID, List<IntervalTree.Interval>> bookings = new HashMap<>();
+        Map<UUID, UUID> owners = new HashMap<>();
+        for (BookedSlotView slot : sessionRepository.findBookedSlotsStartingFrom(now.minus(sessionDuration))) {
+            bookings.computeIfAbsent(slot.interviewerId(), id -> new ArrayList<>()).add(toInterval(slot));
+            owners.put(slot.sessionId(), slot.interviewerId());
+        }
+
+        Map<UUID, Calendar> loaded = new HashMap<>();
+        windows.forEach((id, intervals) -> loaded.put(id, new Calendar(IntervalTree.of(intervals), IntervalTree.EMPTY)));
+        bookings.forEach((id, intervals) -> loaded.merge(id,
+                new Calendar(IntervalTree.EMPTY, IntervalTree.of(intervals)),
+                (calendar, booked) -> new Calendar(calendar.availability(), booked.bookings())));
+
+        // Writes that commit while loading are re-applied by the next rebuild
+        calendars.keySet().retainAll(loaded.keySet());
+        calendars.putAll(loaded);
+        bookingOwners.keySet().retainAll(owners.keySet());
+        bookingOwners.putAll(owners);
+        log.info("Interviewer calendars rebuilt: {} interviewers, {} bookings", loaded.size(), owners.size());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0 || body.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+
+        try {
+            reload(UUID.fromString(body.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed interviewer calendar update: {}", body);
+        }
+    }
+
+    private void reload(UUID interviewerId) {
+        OffsetDateTime now = OffsetDateTime.now();
+        List<IntervalTree.Interval> windows = availabilityRepository
+                .findByInterviewerIdAndEndsAtAfterOrderByStartsAt(interviewerId, now)
+                .stream()
+                .map(InterviewerCalendarService::toInterval)
+                .toList();
+        List<BookedSlotView> slots = sessionRepository.findInterviewerBookedSlots(interviewerId, now.minus(sessionDuration));
+
+        bookingOwners.values().removeIf(interviewerId::equals);
+        slots.forEach(slot -> bookingOwners.put(slot.sessionId(), interviewerId));
+        calendars.put(interviewerId, new Calendar(
+                IntervalTree.of(windows), IntervalTree.of(slots.stream().map(this::toInterval).toList())));
+    }
+
+    /**
+     * Group sessions by interviewer. Sessions this node does not know, e.g. after a missed
+     * announcement, are looked up, so the other nodes are still told to reload.
+     */
+    private Map<UUID, List<UUID>> interviewersOf(Collection<UUID> sessionIds) {
+        Map<UUID, List<UUID>> byInterviewer = new HashMap<>();
+        List<UUID> unknown = new ArrayList<>();
+        for (UUID sessionId : sessionIds) {
+            UUID interviewerId = bookingOwners.get(sessionId);
+            if (interviewerId != null) {
+                byInterviewer.computeIfAbsent(interviewerId, id -> new ArrayList<>()).add(sessionId);
+            } else {
+                unknown.add(sessionId);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            for (SessionParticipant participant :
+                    participantRepository.findBySessionIdInAndRoleInSession(unknown, ParticipantRole.INTERVIEWER)) {
+                byInterviewer.computeIfAbsent(participant.getUserId(), id -> new ArrayList<>())
+                        .add(participant.getSessionId());
+            }
+        }
+        return byInterviewer;
+    }
+
+    private Map<UUID, String> conflicts(List<Booking> bookings, Function<UUID, Calendar> calendarOf) {
+        long now = System.currentTimeMillis();
+        Map<UUID, Calendar> calendarsById = new HashMap<>();
+        // Bookings accepted so far, so the batch is also checked against itself
+        Map<UUID, IntervalTree> accepted = new HashMap<>();
+        Map<UUID, String> rejected = new HashMap<>();
+        for (Booking booking : bookings) {
+            long start = booking.startsAt().toInstant().toEpochMilli();
+            long end = start + sessionDuration.toMillis();
+            Calendar calendar = calendarsById.computeIfAbsent(booking.interviewerId(), calendarOf);
+            IntervalTree batch = accepted.getOrDefault(booking.interviewerId(), IntervalTree.EMPTY);
+
+            String conflict = conflict(calendar, start, end, now);
+            if (conflict == null && batch.overlaps(start, end)) {
+                conflict = ALREADY_BOOKED;
+            }
+            if (conflict != null) {
+                rejected.put(booking.sessionId(), conflict);
+            } else {
+                accepted.put(booking.interviewerId(), batch.with(new IntervalTree.Interval(start, end, booking.sessionId())));
+            }
+        }
+        return rejected;
+    }
+
+    /**
+     * Why {@code [start, end)} cannot be booked in the calendar, or null if it can.
+     */
+    private static String conflict(Calendar calendar, long start, long end, long now) {
+        if (start < now) {
+            return "Scheduled time must be in the future";
+        }
+        if (!calendar.availability().isEmpty() && !calendar.availability().covers(start, end)) {
+            return "Interviewer is not available at this time";
+        }
+        if (calendar.bookings().overlaps(start, end)) {
+            return ALREADY_BOOKED;
+        }
+        return null;
+    }
+
+    private Calendar calendar(UUID interviewerId) {
+        return calendars.getOrDefault(interviewerId, Calendar.EMPTY);
+    }
+
+    /**
+     * The interviewer's availability with no bookings, for checks the database re-read completes.
+     */
+    private Calendar availabilityOf(UUID interviewerId) {
+        return new Calendar(calendar(interviewerId).availability(), IntervalTree.EMPTY);
+    }
+
+    private void requireInterviewer(UUID userId) {
+        if (profileRepository.findInterviewerView(userId).isEmpty()) {
+            throw new ForbiddenException("Only interviewers can publish availability");
+        }
+    }
+
+    /**
+     * Apply a calendar change once the surrounding transaction commits, then tell other nodes.
+     */
+    private void afterCommit(UUID interviewerId, Runnable change) {
+        broadcaster.afterCommit(change, UPDATE_CHANNEL, nodeId + ":" + interviewerId);
+    }
+
+    private IntervalTree.Interval toInterval(BookedSlotView slot) {
+        Instant start = slot.startsAt().toInstant();
+        Instant end = slot.endsAt() != null ? slot.endsAt().toInstant() : start.plus(sessionDuration);
+        return new IntervalTree.Interval(start.toEpochMilli(), end.toEpochMilli(), slot.sessionId());
+    }
+
+    private static IntervalTree.Interval toInterval(InterviewerAvailability window) {
+        return new IntervalTree.Interval(
+                window.getStartsAt().toInstant().toEpochMilli(), window.getEndsAt().toInstant().toEpochMilli(),
+                window.getId());
+    }
+
+    private static AvailabilityResponse toResponse(IntervalTree.Interval interval) {
+        return new AvailabilityResponse(interval.id(), toOffsetDateTime(interval.start()), toOffsetDateTime(interval.end()));
+    }
+
+    private static OffsetDateTime toOffsetDateTime(long epochMillis) {
+        return OffsetDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+    }
+}
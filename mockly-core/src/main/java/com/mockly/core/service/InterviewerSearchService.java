@@ -0,0 +1,198 @@
+package com.mockly.core.service;
+
+import com.mockly.core.dto.user.InterviewerMatchResponse;
+import com.mockly.core.dto.user.InterviewerSearchResponse;
+import com.mockly.core.exception.BadRequestException;
+import com.mockly.data.entity.Profile;
+import com.mockly.data.projection.InterviewerProfileView;
+import com.mockly.data.repository.ProfileRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interviewer discovery backed by a per-node {@link InterviewerSkillIndex}.
+ * <p>
+ * The index is loaded from the database at startup and rebuilt periodically. Profile changes are
+ * applied to the local index after commit and announced over Redis pub/sub, so other nodes reload
+ * just that profile; the periodic rebuild repairs any missed announcement. Profiles changed while
+ * a rebuild is loading are re-read after the swap, so the rebuild cannot undo them.
+ */
+@Service
+@Slf4j
+public class InterviewerSearchService implements MessageListener {
+
+    static final String UPDATE_CHANNEL = "interviewer-index:updates";
+    private static final int LOAD_PAGE_SIZE = 1000;
+    private static final int MAX_QUERY_SKILLS = 20;
+    private static final int MAX_LIMIT = 100;
+
+    private final ProfileRepository profileRepository;
+    private final AfterCommitBroadcaster broadcaster;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final InterviewerSkillIndex index = new InterviewerSkillIndex();
+    // Lets a node ignore its own announcements, which it has already applied
+    private final String nodeId = UUID.randomUUID().toString();
+    // Profiles changed while a rebuild is running; re-read after the swap so none are lost
+    private volatile Set<UUID> touchedDuringRebuild;
+
+    public InterviewerSearchService(
+            ProfileRepository profileRepository,
+            AfterCommitBroadcaster broadcaster,
+            RedisMessageListenerContainer listenerContainer) {
+        this.profileRepository = profileRepository;
+        this.broadcaster = broadcaster;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @PostConstruct
+    void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(UPDATE_CHANNEL));
+    }
+
+    /**
+     * Search interviewers by skill overlap and level.
+     *
+     * @param skills Requested skills (any match counts; more matches rank higher)
+     * @param level Exact level, or null for any
+     * @param limit Maximum number of results (1-100)
+     * @return Ranked interviewers and the total number of matches
+     */
+    public InterviewerSearchResponse search(List<String> skills, String level, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BadRequestException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        if (skills != null && skills.size() > MAX_QUERY_SKILLS) {
+            throw new BadRequestException("At most " + MAX_QUERY_SKILLS + " skills can be searched at once");
+        }
+
+        InterviewerSkillIndex.Result result = index.search(skills, level, limit);
+
+        List<InterviewerMatchResponse> interviewers = result.hits().stream()
+                .map(hit -> new InterviewerMatchResponse(
+                        hit.document().userId(),
+                        hit.document().name(),
+                        hit.document().surname(),
+                        hit.document().avatarUrl(),
+                        hit.document().level(),
+                        hit.document().skills(),
+                        hit.matchedSkills()))
+                .toList();
+
+        return new InterviewerSearchResponse(interviewers, result.total());
+    }
+
+    /**
+     * Re-index a profile after the surrounding transaction commits and notify other nodes.
+     * Profiles that are not interviewers are removed from the index.
+     */
+    public void onProfileChanged(Profile profile) {
+        UUID userId = profile.getUserId() != null ? profile.getUserId() : profile.getUser().getId();
+        InterviewerSkillIndex.Document document = profile.getRole() == Profile.ProfileRole.INTERVIEWER
+                ? new InterviewerSkillIndex.Document(userId, profile.getName(), profile.getSurname(),
+                        profile.getAvatarUrl(), profile.getLevel(), profile.getSkills())
+                : null;
+
+        broadcaster.afterCommit(() -> {
+            touch(userId);
+            if (document != null) {
+                index.upsert(document);
+            } else {
+                index.remove(userId);
+            }
+        }, UPDATE_CHANNEL, nodeId + ":" + userId);
+    }
+
+    /**
+     * Reload every interviewer profile and swap the index.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${interviewer.index.rebuild-interval-ms:600000}",
+            fixedDelayString = "${interviewer.index.rebuild-interval-ms:600000}"
+    )
+    public void rebuild() {
+        Set<UUID> touched = ConcurrentHashMap.newKeySet();
+        touchedDuringRebuild = touched;
+        try {
+            List<InterviewerSkillIndex.Document> documents = new ArrayList<>();
+            UUID after = new UUID(0L, 0L);
+            List<InterviewerProfileView> page;
+            do {
+                page = profileRepository.findInterviewersAfter(after, PageRequest.of(0, LOAD_PAGE_SIZE));
+                page.forEach(view -> documents.add(toDocument(view)));
+                if (!page.isEmpty()) {
+                    after = page.get(page.size() - 1).userId();
+                }
+            } while (page.size() == LOAD_PAGE_SIZE);
+
+            index.replaceAll(documents);
+            // Changes touching a profile during this loop are recorded again and re-read
+            while (!touched.isEmpty()) {
+                for (UUID userId : List.copyOf(touched)) {
+                    touched.remove(userId);
+                    reload(userId);
+                }
+            }
+            log.info("Interviewer index rebuilt with {} profiles", index.size());
+        } finally {
+            touchedDuringRebuild = null;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0 || body.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+
+        UUID userId;
+        try {
+            userId = UUID.fromString(body.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed interviewer index update: {}", body);
+            return;
+        }
+        touch(userId);
+        reload(userId);
+    }
+
+    private void reload(UUID userId) {
+        profileRepository.findInterviewerView(userId)
+                .ifPresentOrElse(view -> index.upsert(toDocument(view)), () -> index.remove(userId));
+    }
+
+    /**
+     * Record a profile change for a running rebuild. Must happen before the change is applied,
+     * so a rebuild that swaps in between still re-reads the profile.
+     */
+    private void touch(UUID userId) {
+        Set<UUID> touched = touchedDuringRebuild;
+        if (touched != null) {
+            touched.add(userId);
+        }
+    }
+
+    private static InterviewerSkillIndex.Document toDocument(InterviewerProfileView view) {
+        return new InterviewerSkillIndex.Document(
+                view.userId(), view.name(), view.surname(), view.avatarUrl(), view.level(), view.skills());
+    }
+}
@@ -0,0 +1,268 @@
+package com.mockly.core.service;
+
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index of interviewer profiles by skill and level.
+ * <p>
+ * Each interviewer gets a dense integer document ID, and each normalized skill and level maps to a
+ * compressed (Roaring) bitmap of the documents that have it. A search combines a few bitmaps per
+ * requested skill and ranks by how many of those skills an interviewer has, so its cost depends on
+ * the number of query terms rather than on the number of profiles.
+ * <p>
+ * Thread-safe: searches share a read lock, updates take the write lock.
+ */
+public class InterviewerSkillIndex {
+
+    /**
+     * Indexed view of an interviewer profile.
+     */
+    public record Document(
+            UUID userId,
+            String name,
+            String surname,
+            String avatarUrl,
+            String level,
+            List<String> skills
+    ) {
+        public Document {
+            skills = skills != null ? List.copyOf(skills) : List.of();
+        }
+    }
+
+    /**
+     * A matching interviewer and how many of the requested skills they have.
+     */
+    public record Hit(Document document, int matchedSkills) {}
+
+    /**
+     * Top hits, best overlap first, and the number of interviewers that matched at all.
+     */
+    public record Result(List<Hit> hits, int total) {}
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private State state = new State();
+
+    /**
+     * Replace the whole index, e.g. after a full reload. Builds off-lock and swaps.
+     */
+    public void replaceAll(Collection<Document> documents) {
+        State next = new State();
+        documents.forEach(next::upsert);
+
+        lock.writeLock().lock();
+        try {
+            state = next;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Add a document or re-index an existing one in place.
+     */
+    public void upsert(Document document) {
+        lock.writeLock().lock();
+        try {
+            state.upsert(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a user from the index, e.g. when they are no longer an interviewer.
+     */
+    public void remove(UUID userId) {
+        lock.writeLock().lock();
+        try {
+            state.remove(userId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return state.live.getCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Find interviewers having any of the given skills, optionally at an exact level.
+     * Results are ordered by the number of requested skills matched, then by indexing order.
+     * With no skills, every interviewer (at the level, if given) matches with an overlap of zero.
+     *
+     * @param skills Requested skills; case-insensitive
+     * @param level Required level, or null for any; case-insensitive
+     * @param limit Maximum number of hits to return
+     * @return Top hits and total number of matches
+     */
+    public Result search(Collection<String> skills, String level, int limit) {
+        List<String> terms = normalizeAll(skills);
+
+        lock.readLock().lock();
+        try {
+            RoaringBitmap candidates = state.live;
+            String levelKey = normalize(level);
+            if (levelKey != null) {
+                RoaringBitmap atLevel = state.byLevel.get(levelKey);
+                if (atLevel == null) {
+                    return new Result(List.of(), 0);
+                }
+                candidates = RoaringBitmap.and(candidates, atLevel);
+            }
+
+            if (terms.isEmpty()) {
+                List<Hit> hits = new ArrayList<>(Math.min(limit, candidates.getCardinality()));
+                collect(candidates, 0, limit, hits);
+                return new Result(hits, candidates.getCardinality());
+            }
+
+            // atLeast[j] = candidates having at least j of the requested skills
+            RoaringBitmap[] atLeast = new RoaringBitmap[terms.size() + 1];
+            atLeast[0] = candidates;
+            int known = 0;
+            for (String term : terms) {
+                RoaringBitmap posting = state.bySkill.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                known++;
+                atLeast[known] = new RoaringBitmap();
+                // Walk down so each step reads the tiers from before this skill was added
+                for (int j = known; j >= 1; j--) {
+                    atLeast[j].or(RoaringBitmap.and(atLeast[j - 1], posting));
+                }
+            }
+
+            if (known == 0) {
+                return new Result(List.of(), 0);
+            }
+
+            List<Hit> hits = new ArrayList<>(Math.min(limit, atLeast[1].getCardinality()));
+            for (int j = known; j >= 1 && hits.size() < limit; j--) {
+                RoaringBitmap tier = j == known ? atLeast[j] : RoaringBitmap.andNot(atLeast[j], atLeast[j + 1]);
+                collect(tier, j, limit, hits);
+            }
+            return new Result(hits, atLeast[1].getCardinality());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void collect(RoaringBitmap docs, int matchedSkills, int limit, List<Hit> hits) {
+        IntIterator it = docs.getIntIterator();
+        while (it.hasNext() && hits.size() < limit) {
+            hits.add(new Hit(state.documents.get(it.next()), matchedSkills));
+        }
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed.toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String> normalizeAll(Collection<String> values) {
+        if (values == null || values.isEmpty()) {
+            return List.of();
+        }
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String value : values) {
+            String key = normalize(value);
+            if (key != null) {
+                normalized.add(key);
+            }
+        }
+        return List.copyOf(normalized);
+    }
+
+    /**
+     * Postings and documents; only touched under the write lock once published.
+     */
+    private static final class State {
+
+        private final Map<UUID, Integer> docIds = new HashMap<>();
+        // Indexed by document ID; null once removed (the ID is reused if the user comes back)
+        private final List<Document> documents = new ArrayList<>();
+        private final Map<String, RoaringBitmap> bySkill = new HashMap<>();
+        private final Map<String, RoaringBitmap> byLevel = new HashMap<>();
+        private final RoaringBitmap live = new RoaringBitmap();
+
+        void upsert(Document document) {
+            Integer docId = docIds.get(document.userId());
+            if (docId == null) {
+                docId = documents.size();
+                docIds.put(document.userId(), docId);
+                documents.add(document);
+            } else {
+                unindex(docId);
+                documents.set(docId, document);
+            }
+            index(docId, document);
+        }
+
+        void remove(UUID userId) {
+            Integer docId = docIds.get(userId);
+            if (docId != null && documents.get(docId) != null) {
+                unindex(docId);
+                documents.set(docId, null);
+            }
+        }
+
+        private void index(int docId, Document document) {
+            for (String skill : normalizeAll(document.skills())) {
+                bySkill.computeIfAbsent(skill, k -> new RoaringBitmap()).add(docId);
+            }
+            String level = normalize(document.level());
+            if (level != null) {
+                byLevel.computeIfAbsent(level, k -> new RoaringBitmap()).add(docId);
+            }
+            live.add(docId);
+        }
+
+        private void unindex(int docId) {
+            Document previous = documents.get(docId);
+            if (previous == null) {
+                return;
+            }
+            for (String skill : normalizeAll(previous.skills())) {
+                removeFrom(bySkill, skill, docId);
+            }
+            String level = normalize(previous.level());
+            if (level != null) {
+                removeFrom(byLevel, level, docId);
+            }
+            live.remove(docId);
+        }
+
+        private static void removeFrom(Map<String, RoaringBitmap> postings, String key, int docId) {
+            RoaringBitmap bitmap = postings.get(key);
+            if (bitmap != null) {
+                bitmap.remove(docId);
+                if (bitmap.isEmpty()) {
+                    postings.remove(key);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.mockly.core.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Per-key invalidation counters for caches that load without holding a lock: read {@link #get}
+ * before loading and cache the result only if the generation is unchanged afterwards.
+ * <p>
+ * Keys share a fixed number of striped counters, so memory stays bounded. An invalidation of an
+ * unrelated key on the same stripe only makes one concurrent load skip caching.
+ */
+final class InvalidationGenerations {
+
+    private static final int DEFAULT_STRIPES = 1024;
+
+    private final AtomicLongArray counters;
+    private final int mask;
+
+    InvalidationGenerations() {
+        this(DEFAULT_STRIPES);
+    }
+
+    /**
+     * @param stripes Number of counters; rounded up to a power of two
+     */
+    InvalidationGenerations(int stripes) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.counters = new AtomicLongArray(size);
+        this.mask = size - 1;
+    }
+
+    long get(Object key) {
+        return counters.get(index(key));
+    }
+
+    void bump(Object key) {
+        counters.incrementAndGet(index(key));
+    }
+
+    private int index(Object key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,326 @@
+package com.mockly.core.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Per-node waiting room pairing candidates with available interviewers.
+ * <p>
+ * Every waiting user holds one {@link Ticket}, which sits in a lock-free FIFO queue per normalized
+ * skill and in an arrival-order queue per side. Enqueueing and cancelling never block the matcher:
+ * a ticket's state is claimed with a compare-and-set, and tickets that left the queue are dropped
+ * lazily when they reach the head of a queue.
+ * <p>
+ * {@link #match} and {@link #expire} must be called from a single matcher thread;
+ * {@link #enqueue}, {@link #find} and {@link #cancel} are safe from any thread.
+ */
+public class MatchmakingQueue {
+
+    public enum Side { CANDIDATE, INTERVIEWER }
+
+    /**
+     * What became of a claimed pair, as decided by the {@link MatchHandler}.
+     */
+    public enum Outcome {
+        /** Session created; both tickets leave the queue. */
+        MATCHED,
+        /** The candidate cannot be matched; the interviewer keeps their place. */
+        CANDIDATE_REJECTED,
+        /** Neither user can be matched; both tickets leave the queue. */
+        PAIR_REJECTED,
+        /** Transient failure; both keep their place and matching stops until the next run. */
+        RETRY_LATER
+    }
+
+    @FunctionalInterface
+    public interface MatchHandler {
+        Outcome onMatch(Ticket candidate, Ticket interviewer);
+    }
+
+    private enum State { WAITING, CLAIMED, DONE }
+
+    /**
+     * A user waiting to be matched.
+     */
+    public static final class Ticket {
+
+        private final UUID userId;
+        private final Side side;
+        private final List<String> skills;
+        private final Instant enqueuedAt;
+        private final AtomicReference<State> state = new AtomicReference<>(State.WAITING);
+
+        private Ticket(UUID userId, Side side, List<String> skills, Instant enqueuedAt) {
+            this.userId = userId;
+            this.side = side;
+            this.skills = skills;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        public UUID userId() {
+            return userId;
+        }
+
+        public Side side() {
+            return side;
+        }
+
+        public List<String> skills() {
+            return skills;
+        }
+
+        public Instant enqueuedAt() {
+            return enqueuedAt;
+        }
+
+        private boolean isWaiting() {
+            return state.get() == State.WAITING;
+        }
+    }
+
+    private final ConcurrentMap<UUID, Ticket> tickets = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Queue<Ticket>> candidatesBySkill = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Queue<Ticket>> interviewersBySkill = new ConcurrentHashMap<>();
+    private final Queue<Ticket> candidates = new ConcurrentLinkedQueue<>();
+    private final Queue<Ticket> interviewers = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Put a user in the queue.
+     *
+     * @param userId User ID
+     * @param side Whether the user wants an interview or offers one
+     * @param skills Skills wanted (candidate) or offered (interviewer); case-insensitive
+     * @param now Enqueue time
+     * @return The new ticket, or null if the user is already queued
+     */
+    public Ticket enqueue(UUID userId, Side side, Collection<String> skills, Instant now) {
+        Ticket ticket = new Ticket(userId, side, normalizeAll(skills), now);
+
+        Ticket existing = tickets.putIfAbsent(userId, ticket);
+        // A finished ticket may linger for a moment before it is unregistered
+        if (existing != null && (existing.state.get() != State.DONE || !tickets.replace(userId, existing, ticket))) {
+            return null;
+        }
+
+        ConcurrentMap<String, Queue<Ticket>> bySkill = side == Side.CANDIDATE ? candidatesBySkill : interviewersBySkill;
+        for (String skill : ticket.skills) {
+            // compute() so the add cannot race the matcher dropping an empty queue for this skill
+            bySkill.compute(skill, (key, queue) -> {
+                Queue<Ticket> target = queue != null ? queue : new ConcurrentLinkedQueue<>();
+                target.add(ticket);
+                return target;
+            });
+        }
+        (side == Side.CANDIDATE ? candidates : interviewers).add(ticket);
+        return ticket;
+    }
+
+    /**
+     * Find the ticket of a waiting user.
+     */
+    public Ticket find(UUID userId) {
+        Ticket ticket = tickets.get(userId);
+        return ticket != null && ticket.state.get() != State.DONE ? ticket : null;
+    }
+
+    /**
+     * Take a user out of the queue.
+     *
+     * @return false if the user is not waiting, including while a match for them is being set up
+     */
+    public boolean cancel(UUID userId) {
+        Ticket ticket = tickets.get(userId);
+        if (ticket == null || !ticket.state.compareAndSet(State.WAITING, State.DONE)) {
+            return false;
+        }
+        tickets.remove(userId, ticket);
+        return true;
+    }
+
+    /**
+     * Number of users currently queued on either side.
+     */
+    public int size() {
+        return tickets.size();
+    }
+
+    /**
+     * Pair waiting users and hand each pair to the handler.
+     * First each skill pairs its longest-waiting candidate with its longest-waiting interviewer. Then
+     * candidates that asked for no particular skill, or have waited at least {@code relaxAfter}, take
+     * the longest-waiting interviewer of any skill.
+     *
+     * @param now Current time
+     * @param relaxAfter Wait after which a candidate accepts any interviewer
+     * @param limit Maximum number of pairs to hand out
+     * @param handler Sets up the session for a claimed pair
+     * @return Number of pairs matched
+     */
+    public int match(Instant now, Duration relaxAfter, int limit, MatchHandler handler) {
+        int budget = limit;
+        int matched = 0;
+
+        for (var entry : candidatesBySkill.entrySet()) {
+            Queue<Ticket> skillInterviewers = interviewersBySkill.get(entry.getKey());
+            if (skillInterviewers == null) {
+                continue;
+            }
+            while (budget > 0) {
+                Ticket candidate = headWaiting(entry.getValue());
+                Ticket interviewer = headWaiting(skillInterviewers);
+                if (candidate == null || interviewer == null) {
+                    break;
+                }
+                Outcome outcome = tryPair(candidate, interviewer, handler);
+                if (outcome == null) {
+                    continue;
+                }
+                budget--;
+                if (outcome == Outcome.MATCHED) {
+                    matched++;
+                } else if (outcome == Outcome.RETRY_LATER) {
+                    return matched;
+                }
+            }
+        }
+
+        Instant relaxedBefore = now.minus(relaxAfter);
+        Iterator<Ticket> it = candidates.iterator();
+        while (it.hasNext() && budget > 0) {
+            Ticket candidate = it.next();
+            if (!candidate.isWaiting()) {
+                if (candidate.state.get() == State.DONE) {
+                    it.remove();
+                }
+                continue;
+            }
+            if (!candidate.skills.isEmpty() && candidate.enqueuedAt.isAfter(relaxedBefore)) {
+                continue;
+            }
+            Ticket interviewer = headWaiting(interviewers);
+            if (interviewer == null) {
+                break;
+            }
+            Outcome outcome = tryPair(candidate, interviewer, handler);
+            if (outcome == null) {
+                continue;
+            }
+            budget--;
+            if (outcome == Outcome.MATCHED) {
+                matched++;
+            } else if (outcome == Outcome.RETRY_LATER) {
+                break;
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * Remove tickets enqueued before the cutoff and compact the queues.
+     *
+     * @return The expired tickets
+     */
+    public List<Ticket> expire(Instant cutoff) {
+        List<Ticket> expired = new ArrayList<>();
+        for (Ticket ticket : tickets.values()) {
+            if (ticket.enqueuedAt.isBefore(cutoff) && ticket.state.compareAndSet(State.WAITING, State.DONE)) {
+                tickets.remove(ticket.userId, ticket);
+                expired.add(ticket);
+            }
+        }
+
+        // Tickets matched through one skill are still queued under their other skills
+        compact(candidatesBySkill);
+        compact(interviewersBySkill);
+        candidates.removeIf(ticket -> ticket.state.get() == State.DONE);
+        interviewers.removeIf(ticket -> ticket.state.get() == State.DONE);
+        return expired;
+    }
+
+    /**
+     * Claim both tickets and run the handler.
+     *
+     * @return The handler's outcome, or null if either user cancelled before the claim
+     */
+    private Outcome tryPair(Ticket candidate, Ticket interviewer, MatchHandler handler) {
+        if (!candidate.state.compareAndSet(State.WAITING, State.CLAIMED)) {
+            return null;
+        }
+        if (!interviewer.state.compareAndSet(State.WAITING, State.CLAIMED)) {
+            candidate.state.set(State.WAITING);
+            return null;
+        }
+
+        Outcome outcome = Outcome.RETRY_LATER;
+        try {
+            outcome = handler.onMatch(candidate, interviewer);
+        } finally {
+            switch (outcome) {
+                case MATCHED, PAIR_REJECTED -> {
+                    finish(candidate);
+                    finish(interviewer);
+                }
+                case CANDIDATE_REJECTED -> {
+                    finish(candidate);
+                    interviewer.state.set(State.WAITING);
+                }
+                case RETRY_LATER -> {
+                    candidate.state.set(State.WAITING);
+                    interviewer.state.set(State.WAITING);
+                }
+            }
+        }
+        return outcome;
+    }
+
+    private void finish(Ticket ticket) {
+        ticket.state.set(State.DONE);
+        tickets.remove(ticket.userId, ticket);
+    }
+
+    /**
+     * Drop finished tickets from the head of a queue and return the first waiting one.
+     */
+    private static Ticket headWaiting(Queue<Ticket> queue) {
+        Ticket head;
+        while ((head = queue.peek()) != null && head.state.get() == State.DONE) {
+            queue.poll();
+        }
+        return head != null && head.isWaiting() ? head : null;
+    }
+
+    private static void compact(ConcurrentMap<String, Queue<Ticket>> bySkill) {
+        for (String skill : bySkill.keySet()) {
+            bySkill.computeIfPresent(skill, (key, queue) -> {
+                queue.removeIf(ticket -> ticket.state.get() == State.DONE);
+                return queue.isEmpty() ? null : queue;
+            });
+        }
+    }
+
+    private static List<String> normalizeAll(Collection<String> values) {
+        if (values == null || values.isEmpty()) {
+            return List.of();
+        }
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String value : values) {
+            String key = InterviewerSkillIndex.normalize(value);
+            if (key != null) {
+                normalized.add(key);
+            }
+        }
+        return List.copyOf(normalized);
+    }
+}
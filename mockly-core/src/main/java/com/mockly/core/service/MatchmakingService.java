@@ -0,0 +1,237 @@
+package com.mockly.core.service;
+
+import com.mockly.core.dto.matchmaking.MatchmakingTicketResponse;
+import com.mockly.core.dto.session.CreateSessionRequest;
+import com.mockly.core.dto.session.SessionResponse;
+import com.mockly.core.exception.BadRequestException;
+import com.mockly.core.exception.ConflictException;
+import com.mockly.core.exception.ForbiddenException;
+import com.mockly.core.exception.ResourceNotFoundException;
+import com.mockly.data.enums.SessionStatus;
+import com.mockly.data.projection.InterviewerProfileView;
+import com.mockly.data.repository.ProfileRepository;
+import com.mockly.data.repository.SessionRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * On-demand interviews: candidates wait for any interviewer with the skills they want,
+ * and interviewers opt in to take whoever comes next.
+ * <p>
+ * Users wait in a per-node {@link MatchmakingQueue}. A matcher on its own thread runs at a fixed
+ * delay, so a compatible pair waits at most one interval plus the sessions created ahead of it in
+ * the same run, independent of other scheduled jobs. Each match creates a regular session through
+ * {@link SessionService#createSession} and announces it with a {@link MatchFoundEvent}.
+ */
+@Service
+@Slf4j
+public class MatchmakingService {
+
+    private static final List<SessionStatus> OPEN_STATUSES = List.of(SessionStatus.SCHEDULED, SessionStatus.ACTIVE);
+
+    private final SessionService sessionService;
+    private final SessionRepository sessionRepository;
+    private final ProfileRepository profileRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MatchmakingQueue queue = new MatchmakingQueue();
+    private final ThreadPoolTaskScheduler scheduler;
+    private final boolean enabled;
+    private final Duration interval;
+    private final Duration ticketTtl;
+    private final Duration relaxAfter;
+    private final int maxMatchesPerRun;
+
+    public MatchmakingService(
+            SessionService sessionService,
+            SessionRepository sessionRepository,
+            ProfileRepository profileRepository,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${matchmaking.enabled:true}") boolean enabled,
+            @Value("${matchmaking.interval-ms:1000}") long intervalMs,
+            @Value("${matchmaking.ticket-ttl-seconds:600}") long ticketTtlSeconds,
+            @Value("${matchmaking.relax-after-seconds:30}") long relaxAfterSeconds,
+            @Value("${matchmaking.max-matches-per-run:200}") int maxMatchesPerRun) {
+        this.sessionService = sessionService;
+        this.sessionRepository = sessionRepository;
+        this.profileRepository = profileRepository;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.interval = Duration.ofMillis(intervalMs);
+        this.ticketTtl = Duration.ofSeconds(ticketTtlSeconds);
+        this.relaxAfter = Duration.ofSeconds(relaxAfterSeconds);
+        this.maxMatchesPerRun = maxMatchesPerRun;
+
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("matchmaking-");
+    }
+
+    @PostConstruct
+    void start() {
+        if (enabled) {
+            scheduler.initialize();
+            scheduler.scheduleWithFixedDelay(this::runMatcher, interval);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdown();
+    }
+
+    /**
+     * Wait for an interviewer having any of the given skills.
+     *
+     * @param userId Candidate ID
+     * @param skills Wanted skills; empty to take any interviewer
+     * @return Queue ticket
+     */
+    public MatchmakingTicketResponse enqueueCandidate(UUID userId, List<String> skills) {
+        requireEnabled();
+        if (sessionRepository.existsByCreatedByAndStatusIn(userId, OPEN_STATUSES)) {
+            throw new BadRequestException(
+                    "User already has an active session. Please end the current session before creating a new one."
+            );
+        }
+        return enqueue(userId, MatchmakingQueue.Side.CANDIDATE, skills);
+    }
+
+    /**
+     * Offer to interview the next matching candidate, using the skills from the interviewer's profile.
+     *
+     * @param userId Interviewer ID
+     * @return Queue ticket
+     */
+    public MatchmakingTicketResponse enqueueInterviewer(UUID userId) {
+        requireEnabled();
+        InterviewerProfileView interviewer = profileRepository.findInterviewerView(userId)
+                .orElseThrow(() -> new ForbiddenException("Only interviewers can offer on-demand interviews"));
+        return enqueue(userId, MatchmakingQueue.Side.INTERVIEWER, interviewer.skills());
+    }
+
+    /**
+     * Get the caller's place in the queue.
+     */
+    public MatchmakingTicketResponse getTicket(UUID userId) {
+        MatchmakingQueue.Ticket ticket = queue.find(userId);
+        if (ticket == null) {
+            throw new ResourceNotFoundException("Not waiting in the matchmaking queue");
+        }
+        return toResponse(ticket);
+    }
+
+    /**
+     * Leave the queue.
+     */
+    public void leave(UUID userId) {
+        if (!queue.cancel(userId)) {
+            if (queue.find(userId) != null) {
+                throw new ConflictException("A match is already being set up");
+            }
+            throw new ResourceNotFoundException("Not waiting in the matchmaking queue");
+        }
+        log.info("User {} left the matchmaking queue", userId);
+    }
+
+    /**
+     * Expire old tickets and create sessions for compatible pairs.
+     *
+     * @return Number of sessions created
+     */
+    int matchOnce(Instant now) {
+        for (MatchmakingQueue.Ticket expired : queue.expire(now.minus(ticketTtl))) {
+            publish(new TicketClosedEvent(expired.userId(), "No match found in time"));
+        }
+        return queue.match(now, relaxAfter, maxMatchesPerRun, this::createSession);
+    }
+
+    private void runMatcher() {
+        try {
+            int matched = matchOnce(Instant.now());
+            if (matched > 0) {
+                log.info("Matched {} on-demand interviews, {} users still waiting", matched, queue.size());
+            }
+        } catch (RuntimeException e) {
+            // Keep the fixed-delay schedule alive
+            log.error("Matchmaking run failed", e);
+        }
+    }
+
+    private MatchmakingQueue.Outcome createSession(MatchmakingQueue.Ticket candidate, MatchmakingQueue.Ticket interviewer) {
+        SessionResponse session;
+        try {
+            session = sessionService.createSession(
+                    candidate.userId(), new CreateSessionRequest(interviewer.userId(), null));
+        } catch (BadRequestException e) {
+            publish(new TicketClosedEvent(candidate.userId(), e.getMessage()));
+            return MatchmakingQueue.Outcome.CANDIDATE_REJECTED;
+        } catch (ResourceNotFoundException e) {
+            log.warn("Dropping matchmaking pair {} / {}: {}", candidate.userId(), interviewer.userId(), e.getMessage());
+            publish(new TicketClosedEvent(candidate.userId(), "Match could not be set up"));
+            publish(new TicketClosedEvent(interviewer.userId(), "Match could not be set up"));
+            return MatchmakingQueue.Outcome.PAIR_REJECTED;
+        } catch (RuntimeException e) {
+            log.warn("Failed to create matched session, retrying next run: {}", e.getMessage());
+            return MatchmakingQueue.Outcome.RETRY_LATER;
+        }
+
+        log.info("Matched candidate {} with interviewer {} in session {}",
+                candidate.userId(), interviewer.userId(), session.id());
+        publish(new MatchFoundEvent(candidate.userId(), interviewer.userId(), session));
+        return MatchmakingQueue.Outcome.MATCHED;
+    }
+
+    private void publish(Object event) {
+        try {
+            eventPublisher.publishEvent(event);
+        } catch (RuntimeException e) {
+            // The queue state is already decided; a failed notification must not undo it
+            log.warn("Failed to publish matchmaking event {}: {}", event, e.getMessage());
+        }
+    }
+
+    private MatchmakingTicketResponse enqueue(UUID userId, MatchmakingQueue.Side side, List<String> skills) {
+        MatchmakingQueue.Ticket ticket = queue.enqueue(userId, side, skills, Instant.now());
+        if (ticket == null) {
+            throw new BadRequestException("Already waiting in the matchmaking queue");
+        }
+        log.info("User {} joined the matchmaking queue as {}", userId, side);
+        return toResponse(ticket);
+    }
+
+    private void requireEnabled() {
+        if (!enabled) {
+            throw new BadRequestException("On-demand interviews are not available");
+        }
+    }
+
+    private MatchmakingTicketResponse toResponse(MatchmakingQueue.Ticket ticket) {
+        return new MatchmakingTicketResponse(
+                ticket.side().name(),
+                ticket.skills(),
+                OffsetDateTime.ofInstant(ticket.enqueuedAt(), ZoneOffset.UTC),
+                OffsetDateTime.ofInstant(ticket.enqueuedAt().plus(ticketTtl), ZoneOffset.UTC));
+    }
+
+    /**
+     * Event published after a matched session is created.
+     */
+    public record MatchFoundEvent(UUID candidateId, UUID interviewerId, SessionResponse session) {}
+
+    /**
+     * Event published when a user leaves the queue without a match.
+     */
+    public record TicketClosedEvent(UUID userId, String reason) {}
+}
@@ -0,0 +1,80 @@
+package com.mockly.core.service;
+
+import com.mockly.core.exception.ConflictException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Runs a state transition in its own transaction and retries it when it loses an
+ * optimistic-lock race.
+ * <p>
+ * Each attempt re-reads the entity, so a retry re-checks the transition against the
+ * concurrent winner's write instead of overwriting it. When all attempts conflict the
+ * write is rejected with {@link ConflictException}.
+ */
+@Component
+@Slf4j
+public class OptimisticLockRetry {
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    public OptimisticLockRetry(
+            PlatformTransactionManager transactionManager,
+            @Value("${session.optimistic-lock.max-attempts:3}") int maxAttempts,
+            @Value("${session.optimistic-lock.backoff-ms:20}") long backoffMillis) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = backoffMillis;
+    }
+
+    /**
+     * Execute a transition, retrying on optimistic-lock conflicts.
+     * Inside a caller's transaction the transition runs once, because the caller's
+     * persistence context already holds the stale state and cannot be retried here.
+     *
+     * @param operation Name used in logs and the conflict message
+     * @param transition Reads, validates and writes; must be safe to run again
+     * @return Result of the successful attempt
+     */
+    public <T> T execute(String operation, Supplier<T> transition) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return transition.get();
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> transition.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    log.warn("{} still conflicting after {} attempts", operation, attempt);
+                    throw new ConflictException("Concurrent update during " + operation + ", please retry", e);
+                }
+                log.debug("{} lost an optimistic lock race (attempt {}), retrying", operation, attempt);
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        if (backoffMillis <= 0) {
+            return;
+        }
+        try {
+            // Jittered linear backoff so the retrying writers do not collide again
+            Thread.sleep(ThreadLocalRandom.current().nextLong(backoffMillis * attempt + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConflictException("Interrupted while retrying a concurrent update", e);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.mockly.core.service;
 
+import com.mockly.core.dto.ml.MLProcessResponse;
 import com.mockly.core.dto.report.ReportResponse;
 import com.mockly.core.exception.BadRequestException;
 import com.mockly.core.exception.ResourceNotFoundException;
@@ -18,19 +19,32 @@ import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.EnumSet;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * Service for managing reports.
  * Handles report generation, ML processing, and status management.
+ * <p>
+ * Reports move PENDING -> PROCESSING -> READY or FAILED, and FAILED reports can be claimed again.
+ * Every transition checks the status it starts from, also on an optimistic-lock retry, and writes
+ * nothing if a concurrent writer has already moved the report on.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ReportService {
 
+    // Statuses an existing report may be claimed from by triggerReportGeneration
+    private static final Set<Report.ReportStatus> CLAIMABLE = EnumSet.of(Report.ReportStatus.FAILED);
+    // generateReport also takes over a PENDING report before its asynchronous processing starts
+    private static final Set<Report.ReportStatus> STARTABLE =
+            EnumSet.of(Report.ReportStatus.PENDING, Report.ReportStatus.FAILED);
+
     private final ReportRepository reportRepository;
     private final SessionRepository sessionRepository;
     private final ArtifactRepository artifactRepository;
@@ -38,6 +52,7 @@ public class ReportService {
     private final MLServiceClient mlServiceClient;
     private final MinIOService minIOService;
     private final ApplicationEventPublisher eventPublisher;
+    private final OptimisticLockRetry optimisticLockRetry;
 
     /**
      * Trigger report generation for a session.
@@ -47,74 +62,67 @@ public class ReportService {
      * @param userId User ID (for authorization)
      * @return Report response
      */
-    @Transactional
     public ReportResponse triggerReportGeneration(UUID sessionId, UUID userId) {
         log.info("Triggering report generation for session: {}", sessionId);
 
+        requireSession(sessionId);
 
-        sessionRepository.findById(sessionId)
-                .orElseThrow(() -> new ResourceNotFoundException("Session not found: " + sessionId));
-
+        ReportClaim claim = optimisticLockRetry.execute("triggerReportGeneration", () -> claimReport(sessionId));
+        if (claim.artifactId() == null) {
+            log.info("Report already exists and is {} for session: {}", claim.report().getStatus(), sessionId);
+            return toResponse(claim.report());
+        }
 
-        Optional<Report> existingReport = reportRepository.findBySessionId(sessionId);
-        if (existingReport.isPresent()) {
-            Report report = existingReport.get();
-            if (report.getStatus() == Report.ReportStatus.PROCESSING || 
-                report.getStatus() == Report.ReportStatus.READY) {
-                log.info("Report already exists and is {} for session: {}", report.getStatus(), sessionId);
-                return toResponse(report);
-            }
+        processReportAsync(sessionId, claim.artifactId());
 
-            if (report.getStatus() == Report.ReportStatus.FAILED) {
-                report.setStatus(Report.ReportStatus.PENDING);
-                report.setErrorMessage(null);
-                report = reportRepository.save(report);
-            }
-        } else {
+        // Return current report status
+        Report report = reportRepository.findBySessionId(sessionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Report not found after creation"));
+        return toResponse(report);
+    }
 
-            Report report = Report.builder()
-                    .sessionId(sessionId)
-                    .status(Report.ReportStatus.PENDING)
-                    .build();
-            report = reportRepository.save(report);
+    /**
+     * Create the report or reset a FAILED one to PENDING, and pick the audio artifact to process.
+     * Runs inside one retried transaction, so no report is left behind when there is no audio.
+     * A report that is already pending, processing or ready is returned unclaimed.
+     */
+    private ReportClaim claimReport(UUID sessionId) {
+        Optional<Report> existingReport = reportRepository.findBySessionId(sessionId);
+        if (existingReport.isPresent() && !CLAIMABLE.contains(existingReport.get().getStatus())) {
+            return new ReportClaim(existingReport.get(), null);
         }
 
-
         Artifact artifact = artifactRepository.findFirstBySessionIdAndType(sessionId, ArtifactType.AUDIO_MIXED)
                 .orElseGet(() -> artifactRepository.findBySessionId(sessionId).stream()
-                        .filter(a -> a.getType() == ArtifactType.AUDIO_LEFT || 
+                        .filter(a -> a.getType() == ArtifactType.AUDIO_LEFT ||
                                    a.getType() == ArtifactType.AUDIO_RIGHT)
                         .findFirst()
                         .orElseThrow(() -> new BadRequestException(
                                 "No audio artifact found for session. Please upload an audio file first.")));
 
-
-        processReportAsync(sessionId, artifact.getId());
-
-        // Return current report status
-        Report report = reportRepository.findBySessionId(sessionId)
-                .orElseThrow(() -> new ResourceNotFoundException("Report not found after creation"));
-        return toResponse(report);
+        Report report = existingReport.orElseGet(() -> Report.builder().sessionId(sessionId).build());
+        report.setStatus(Report.ReportStatus.PENDING);
+        report.setErrorMessage(null);
+        return new ReportClaim(reportRepository.saveAndFlush(report), artifact.getId());
     }
 
     /**
      * Process report asynchronously.
      * Fetches artifact, sends to ML service, saves results.
+     * Each status change is its own short transaction, so none is held open across the ML call.
      */
     @Async("reportProcessingExecutor")
-    @Transactional
     public CompletableFuture<Void> processReportAsync(UUID sessionId, UUID artifactId) {
         log.info("Starting async report processing for session: {}, artifact: {}", sessionId, artifactId);
 
-        Report report = reportRepository.findBySessionId(sessionId)
-                .orElseThrow(() -> new ResourceNotFoundException("Report not found: " + sessionId));
+        Optional<Report> started = transition("markReportProcessing", sessionId,
+                EnumSet.of(Report.ReportStatus.PENDING),
+                report -> report.setStatus(Report.ReportStatus.PROCESSING));
+        if (started.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
 
         try {
-
-            report.setStatus(Report.ReportStatus.PROCESSING);
-            report = reportRepository.save(report);
-
-
             Artifact artifact = artifactRepository.findById(artifactId)
                     .orElseThrow(() -> new ResourceNotFoundException("Artifact not found: " + artifactId));
 
@@ -131,35 +139,15 @@ public class ReportService {
 
             var mlResponse = mlServiceClient.process(mlRequest);
 
-
-            if (mlResponse.transcript() != null && !mlResponse.transcript().isEmpty()) {
-                Transcript transcript = Transcript.builder()
-                        .sessionId(sessionId)
-                        .source(Transcript.TranscriptSource.MIXED)
-                        .text(mlResponse.transcript())
-                        .build();
-                transcriptRepository.save(transcript);
-                log.info("Saved transcript for session: {}", sessionId);
+            Optional<Report> report = completeReport(sessionId, mlResponse);
+            if (report.isPresent()) {
+                log.info("Report processing completed successfully for session: {}", sessionId);
+                eventPublisher.publishEvent(new ReportReadyEvent(sessionId, toResponse(report.get())));
             }
 
-
-            report.setMetrics(mlResponse.metrics());
-            report.setSummary(mlResponse.summary());
-            report.setRecommendations(mlResponse.recommendations());
-            report.setStatus(Report.ReportStatus.READY);
-            report.setErrorMessage(null);
-            report = reportRepository.save(report);
-
-            log.info("Report processing completed successfully for session: {}", sessionId);
-
-
-            eventPublisher.publishEvent(new ReportReadyEvent(sessionId, toResponse(report)));
-
         } catch (Exception e) {
             log.error("Report processing failed for session: {}", sessionId, e);
-            report.setStatus(Report.ReportStatus.FAILED);
-            report.setErrorMessage(e.getMessage());
-            reportRepository.save(report);
+            failReport(sessionId, e.getMessage());
         }
 
         return CompletableFuture.completedFuture(null);
@@ -172,31 +160,21 @@ public class ReportService {
      * @param sessionId Session ID
      * @return Report response with READY status
      */
-    @Transactional
     public ReportResponse generateReport(UUID sessionId) {
         log.info("Generating report for session: {}", sessionId);
 
+        requireSession(sessionId);
 
-        sessionRepository.findById(sessionId)
-                .orElseThrow(() -> new ResourceNotFoundException("Session not found: " + sessionId));
-
-
-        Report report = reportRepository.findBySessionId(sessionId)
-                .orElseGet(() -> {
-                    Report newReport = Report.builder()
-                            .sessionId(sessionId)
-                            .status(Report.ReportStatus.PENDING)
-                            .build();
-                    return reportRepository.save(newReport);
-                });
+        Optional<Report> started = optimisticLockRetry.execute("markReportProcessing", () -> startProcessing(sessionId));
+        if (started.isEmpty()) {
+            Report report = reportRepository.findBySessionId(sessionId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Report not found: " + sessionId));
+            log.info("Report is already {} for session: {}", report.getStatus(), sessionId);
+            return toResponse(report);
+        }
 
         try {
 
-            report.setStatus(Report.ReportStatus.PROCESSING);
-            report.setErrorMessage(null);
-            report = reportRepository.save(report);
-
-
             var allArtifacts = artifactRepository.findBySessionId(sessionId);
             if (allArtifacts.isEmpty()) {
                 throw new BadRequestException(
@@ -236,29 +214,16 @@ public class ReportService {
 
             log.info("ML service processing completed for session: {}", sessionId);
 
-
-            if (mlResponse.transcript() != null && !mlResponse.transcript().isEmpty()) {
-                Transcript transcript = Transcript.builder()
-                        .sessionId(sessionId)
-                        .source(Transcript.TranscriptSource.MIXED)
-                        .text(mlResponse.transcript())
-                        .build();
-                transcriptRepository.save(transcript);
-                log.info("Saved transcript for session: {}", sessionId);
+            Optional<Report> completed = completeReport(sessionId, mlResponse);
+            if (completed.isEmpty()) {
+                return toResponse(reportRepository.findBySessionId(sessionId)
+                        .orElseThrow(() -> new ResourceNotFoundException("Report not found: " + sessionId)));
             }
 
-
-            report.setMetrics(mlResponse.metrics());
-            report.setSummary(mlResponse.summary());
-            report.setRecommendations(mlResponse.recommendations());
-            report.setStatus(Report.ReportStatus.READY);
-            report.setErrorMessage(null);
-            report = reportRepository.save(report);
-
             log.info("Report saved successfully for session: {}", sessionId);
 
 
-            ReportResponse reportResponse = toResponse(report);
+            ReportResponse reportResponse = toResponse(completed.get());
 
             eventPublisher.publishEvent(new ReportReadyEvent(sessionId, reportResponse));
 
@@ -269,21 +234,98 @@ public class ReportService {
         } catch (BadRequestException | ResourceNotFoundException e) {
 
             log.error("Business error during report generation for session: {}", sessionId, e);
-            report.setStatus(Report.ReportStatus.FAILED);
-            report.setErrorMessage(e.getMessage());
-            reportRepository.save(report);
+            failReport(sessionId, e.getMessage());
             throw e;
         } catch (Exception e) {
 
             log.error("Unexpected error during report generation for session: {}", sessionId, e);
-            report.setStatus(Report.ReportStatus.FAILED);
-            report.setErrorMessage("Report generation failed: " + 
+            failReport(sessionId, "Report generation failed: " + 
                     (e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName()));
-            reportRepository.save(report);
             throw new RuntimeException("Failed to generate report: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Create the report or move a PENDING or FAILED one to PROCESSING, for synchronous generation.
+     *
+     * @return The report, or empty if it is already processing or ready
+     */
+    private Optional<Report> startProcessing(UUID sessionId) {
+        Optional<Report> existingReport = reportRepository.findBySessionId(sessionId);
+        if (existingReport.isPresent() && !STARTABLE.contains(existingReport.get().getStatus())) {
+            return Optional.empty();
+        }
+        Report report = existingReport.orElseGet(() -> Report.builder().sessionId(sessionId).build());
+        report.setStatus(Report.ReportStatus.PROCESSING);
+        report.setErrorMessage(null);
+        return Optional.of(reportRepository.saveAndFlush(report));
+    }
+
+    /**
+     * Save the transcript and ML results and mark a PROCESSING report READY, in one retried transaction.
+     *
+     * @return The report, or empty if it was no longer processing
+     */
+    private Optional<Report> completeReport(UUID sessionId, MLProcessResponse mlResponse) {
+        return optimisticLockRetry.execute("completeReport", () -> {
+            Optional<Report> report = applyTransition("completeReport", sessionId,
+                    EnumSet.of(Report.ReportStatus.PROCESSING), r -> {
+                        r.setMetrics(mlResponse.metrics());
+                        r.setSummary(mlResponse.summary());
+                        r.setRecommendations(mlResponse.recommendations());
+                        r.setStatus(Report.ReportStatus.READY);
+                        r.setErrorMessage(null);
+                    });
+
+            if (report.isPresent() && mlResponse.transcript() != null && !mlResponse.transcript().isEmpty()) {
+                Transcript transcript = Transcript.builder()
+                        .sessionId(sessionId)
+                        .source(Transcript.TranscriptSource.MIXED)
+                        .text(mlResponse.transcript())
+                        .build();
+                transcriptRepository.save(transcript);
+                log.info("Saved transcript for session: {}", sessionId);
+            }
+            return report;
+        });
+    }
+
+    private void failReport(UUID sessionId, String errorMessage) {
+        transition("failReport", sessionId, EnumSet.of(Report.ReportStatus.PROCESSING), report -> {
+            report.setStatus(Report.ReportStatus.FAILED);
+            report.setErrorMessage(errorMessage);
+        });
+    }
+
+    /**
+     * Change the session's report in its own transaction, retrying on version conflicts, but only
+     * while it is in one of the expected statuses.
+     *
+     * @return The updated report, or empty if the report was in another status
+     */
+    private Optional<Report> transition(String operation, UUID sessionId, Set<Report.ReportStatus> from,
+                                        Consumer<Report> change) {
+        return optimisticLockRetry.execute(operation, () -> applyTransition(operation, sessionId, from, change));
+    }
+
+    private Optional<Report> applyTransition(String operation, UUID sessionId, Set<Report.ReportStatus> from,
+                                             Consumer<Report> change) {
+        Report report = reportRepository.findBySessionId(sessionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Report not found: " + sessionId));
+        if (!from.contains(report.getStatus())) {
+            log.info("Skipping {} for session {}: report is already {}", operation, sessionId, report.getStatus());
+            return Optional.empty();
+        }
+        change.accept(report);
+        return Optional.of(reportRepository.saveAndFlush(report));
+    }
+
+    private void requireSession(UUID sessionId) {
+        if (!sessionRepository.existsById(sessionId)) {
+            throw new ResourceNotFoundException("Session not found: " + sessionId);
+        }
+    }
+
     /**
      * Get report for a session.
      *
@@ -316,6 +358,8 @@ public class ReportService {
         );
     }
 
+    private record ReportClaim(Report report, UUID artifactId) {}
+
     /**
      * Event published when report processing is complete.
      */
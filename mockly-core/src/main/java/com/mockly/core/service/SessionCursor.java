@@ -0,0 +1,45 @@
+package com.mockly.core.service;
+
+import com.mockly.core.exception.BadRequestException;
+import com.mockly.data.entity.Session;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position in a session list ordered by (created_at DESC, id DESC).
+ * Encoded as an opaque URL-safe string so clients never depend on its shape.
+ */
+public record SessionCursor(OffsetDateTime createdAt, UUID id) {
+
+    public static SessionCursor of(Session session) {
+        return new SessionCursor(session.getCreatedAt(), session.getId());
+    }
+
+    /**
+     * Encode as base64url("epochMicros:uuid"); Postgres keeps microsecond precision.
+     */
+    public String encode() {
+        long micros = ChronoUnit.MICROS.between(Instant.EPOCH, createdAt.toInstant());
+        String raw = micros + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SessionCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            long micros = Long.parseLong(raw.substring(0, separator));
+            UUID id = UUID.fromString(raw.substring(separator + 1));
+            Instant instant = Instant.EPOCH.plus(micros, ChronoUnit.MICROS);
+            return new SessionCursor(OffsetDateTime.ofInstant(instant, ZoneOffset.UTC), id);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
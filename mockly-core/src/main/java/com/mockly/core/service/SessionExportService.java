@@ -0,0 +1,101 @@
+package com.mockly.core.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mockly.core.exception.ForbiddenException;
+import com.mockly.data.repository.SessionExportRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Exports session history with participants, artifacts and report status for analytics.
+ * <p>
+ * Rows are read through a forward-only cursor in a read-only transaction and written straight to the
+ * output stream, so memory use does not depend on the size of the export. Errors after the first
+ * bytes are written can only abort the stream; clients detect this by the truncated output.
+ */
+@Service
+@Slf4j
+public class SessionExportService {
+
+    public enum Format { NDJSON, CSV }
+
+    /**
+     * MINE: sessions the caller created or takes part in. ALL: every session.
+     */
+    public enum Scope { MINE, ALL }
+
+    private final SessionExportRepository exportRepository;
+    private final JsonFactory jsonFactory;
+    private final TransactionTemplate transactionTemplate;
+    private final int fetchSize;
+    private final Set<UUID> fullAccessUserIds;
+
+    public SessionExportService(
+            SessionExportRepository exportRepository,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${session.export.fetch-size:1000}") int fetchSize,
+            @Value("${session.export.full-access-user-ids:}") List<UUID> fullAccessUserIds) {
+        this.exportRepository = exportRepository;
+        this.jsonFactory = objectMapper.getFactory();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.fetchSize = Math.max(1, fetchSize);
+        this.fullAccessUserIds = Set.copyOf(fullAccessUserIds);
+    }
+
+    /**
+     * Check that the user may export the given scope. Call before writing response headers, so a
+     * refusal is still reported as a regular error response.
+     */
+    public void requireAccess(UUID userId, Scope scope) {
+        if (scope == Scope.ALL && !fullAccessUserIds.contains(userId)) {
+            throw new ForbiddenException("Not allowed to export all sessions");
+        }
+    }
+
+    /**
+     * Stream sessions, oldest first, to {@code out}. The stream is flushed but not closed.
+     *
+     * @param userId ID of the user requesting the export
+     * @param scope Which sessions to export
+     * @param format Output format
+     * @param out Destination, typically the response body
+     * @return Number of sessions written
+     */
+    public long export(UUID userId, Scope scope, Format format, OutputStream out) throws IOException {
+        requireAccess(userId, scope);
+        log.info("Exporting {} sessions as {} for user: {}", scope, format, userId);
+
+        long[] count = {0};
+        try (SessionExportWriter writer = SessionExportWriter.of(format, out, jsonFactory)) {
+            transactionTemplate.executeWithoutResult(status -> exportRepository.stream(
+                    scope == Scope.ALL ? null : userId, format == Format.NDJSON, fetchSize, row -> {
+                        try {
+                            writer.write(row);
+                        } catch (IOException e) {
+                            // Usually the client went away; aborts the query
+                            throw new UncheckedIOException(e);
+                        }
+                        count[0]++;
+                    }));
+        } catch (UncheckedIOException e) {
+            log.warn("Session export for user {} aborted after {} rows: {}", userId, count[0], e.getCause().getMessage());
+            throw e.getCause();
+        }
+
+        log.info("Exported {} sessions for user: {}", count[0], userId);
+        return count[0];
+    }
+}
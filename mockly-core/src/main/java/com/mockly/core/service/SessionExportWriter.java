@@ -0,0 +1,156 @@
+package com.mockly.core.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.mockly.data.projection.SessionExportRow;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Writes exported sessions to a stream, one row at a time, through a fixed-size buffer.
+ * Closing flushes the buffer but leaves the underlying stream open.
+ */
+abstract class SessionExportWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    static final String[] CSV_COLUMNS = {
+            "id", "created_by", "status", "starts_at", "ends_at", "created_at",
+            "candidate_id", "interviewer_id", "artifact_count", "report_status"
+    };
+
+    protected final Writer out;
+
+    private SessionExportWriter(OutputStream out) {
+        this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    static SessionExportWriter of(SessionExportService.Format format, OutputStream out, JsonFactory jsonFactory)
+            throws IOException {
+        return switch (format) {
+            case NDJSON -> new Ndjson(out, jsonFactory);
+            case CSV -> new Csv(out);
+        };
+    }
+
+    abstract void write(SessionExportRow row) throws IOException;
+
+    @Override
+    public void close() throws IOException {
+        out.flush();
+    }
+
+    /**
+     * One JSON object per line, including participants and artifacts as nested arrays.
+     */
+    private static final class Ndjson extends SessionExportWriter {
+
+        private final JsonGenerator generator;
+
+        Ndjson(OutputStream out, JsonFactory jsonFactory) throws IOException {
+            super(out);
+            this.generator = jsonFactory.createGenerator(this.out);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Objects are separated by our own newlines instead of the default space
+            generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        void write(SessionExportRow row) throws IOException {
+            generator.writeStartObject();
+            writeString("id", row.id());
+            writeString("createdBy", row.createdBy());
+            writeString("status", row.status());
+            writeString("startsAt", row.startsAt());
+            writeString("endsAt", row.endsAt());
+            writeString("createdAt", row.createdAt());
+            writeString("candidateId", row.candidateId());
+            writeString("interviewerId", row.interviewerId());
+            generator.writeNumberField("artifactCount", row.artifactCount());
+            writeString("reportStatus", row.reportStatus());
+            // Already rendered as JSON by the database
+            generator.writeFieldName("participants");
+            generator.writeRawValue(row.participantsJson() != null ? row.participantsJson() : "[]");
+            generator.writeFieldName("artifacts");
+            generator.writeRawValue(row.artifactsJson() != null ? row.artifactsJson() : "[]");
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        private void writeString(String field, Object value) throws IOException {
+            if (value == null) {
+                generator.writeNullField(field);
+            } else {
+                generator.writeStringField(field, value.toString());
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.flush();
+            super.close();
+        }
+    }
+
+    /**
+     * RFC 4180 CSV with a header line; participants and artifacts are reduced to the candidate,
+     * the interviewer and the artifact count.
+     */
+    private static final class Csv extends SessionExportWriter {
+
+        Csv(OutputStream out) throws IOException {
+            super(out);
+            this.out.write(String.join(",", CSV_COLUMNS));
+            this.out.write("\r\n");
+        }
+
+        @Override
+        void write(SessionExportRow row) throws IOException {
+            field(row.id());
+            out.write(',');
+            field(row.createdBy());
+            out.write(',');
+            field(row.status());
+            out.write(',');
+            field(row.startsAt());
+            out.write(',');
+            field(row.endsAt());
+            out.write(',');
+            field(row.createdAt());
+            out.write(',');
+            field(row.candidateId());
+            out.write(',');
+            field(row.interviewerId());
+            out.write(',');
+            out.write(Long.toString(row.artifactCount()));
+            out.write(',');
+            field(row.reportStatus());
+            out.write("\r\n");
+        }
+
+        private void field(Object value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            String text = value instanceof OffsetDateTime || value instanceof UUID
+                    ? value.toString()
+                    : escape(value.toString());
+            out.write(text);
+        }
+
+        static String escape(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+}
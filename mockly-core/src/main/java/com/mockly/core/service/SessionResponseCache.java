@@ -0,0 +1,259 @@
+package com.mockly.core.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mockly.core.dto.session.SessionResponse;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Two-tier cache of mapped {@link SessionResponse}s: a per-node Caffeine cache in front of Redis.
+ * <p>
+ * Concurrent misses for the same session on a node share one load. Writers call {@link #evict}
+ * after changing a session; the eviction runs after the surrounding transaction commits, deletes
+ * the Redis entry and is broadcast over Redis pub/sub so every node drops its local copy.
+ * Both tiers also expire entries, which bounds staleness if an invalidation is lost.
+ * <p>
+ * A load may read the old state just before another node commits and evicts. To keep such a load
+ * from re-caching the old state before the broadcast arrives, every eviction also bumps a
+ * per-session generation in Redis. A loaded response is written to Redis only if that generation
+ * is unchanged since the load started (checked atomically by a script), and is kept locally only if
+ * neither the Redis nor the local generation moved.
+ */
+@Service
+@Slf4j
+public class SessionResponseCache implements MessageListener {
+
+    private static final String KEY_PREFIX = "session_response:";
+    private static final String GENERATION_PREFIX = "session_response_gen:";
+    static final String INVALIDATION_CHANNEL = "session-cache:invalidations";
+
+    /**
+     * KEYS: entry key, generation key. ARGV: generation read before loading ("" if none), response
+     * JSON, TTL in ms. Writes the entry only if no eviction happened since the generation was read.
+     */
+    static final RedisScript<Long> WRITE_IF_CURRENT_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[2]) or ''
+            if current ~= ARGV[1] then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS: entry key, generation key. ARGV: generation TTL in ms. Bumps the generation and drops the entry.
+     */
+    static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+
+    /**
+     * What Redis holds for a session: the cached response, if any, and the eviction generation
+     * ("" if never evicted, null if Redis could not be read).
+     */
+    private record RemoteEntry(SessionResponse response, String generation) {
+        static final RemoteEntry UNAVAILABLE = new RemoteEntry(null, null);
+    }
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final AfterCommitBroadcaster broadcaster;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Duration redisTtl;
+    // Outlives any load that could have read the previous generation
+    private final Duration generationTtl;
+    private final Cache<UUID, SessionResponse> localCache;
+
+    // One load per session at a time; waiters join the owner's future
+    private final ConcurrentMap<UUID, CompletableFuture<SessionResponse>> inFlight = new ConcurrentHashMap<>();
+    // Bumped per session on every invalidation so a load that raced with one is not cached
+    private final InvalidationGenerations generations = new InvalidationGenerations();
+
+    public SessionResponseCache(
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            AfterCommitBroadcaster broadcaster,
+            ObjectMapper objectMapper,
+            @Value("${session.cache.enabled:true}") boolean enabled,
+            @Value("${session.cache.local.max-size:10000}") long localMaxSize,
+            @Value("${session.cache.local.ttl-seconds:30}") long localTtlSeconds,
+            @Value("${session.cache.redis.ttl-seconds:300}") long redisTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.broadcaster = broadcaster;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        this.generationTtl = redisTtl.multipliedBy(2);
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .build();
+    }
+
+    @PostConstruct
+    void init() {
+        if (enabled) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+        }
+    }
+
+    /**
+     * Get a session response from the local cache, then Redis, then the loader.
+     * Exceptions thrown by the loader are propagated to every caller waiting on the same load.
+     *
+     * @param sessionId Session ID
+     * @param loader Loads and maps the session from the database
+     * @return Session response
+     */
+    public SessionResponse get(UUID sessionId, Supplier<SessionResponse> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        SessionResponse cached = localCache.getIfPresent(sessionId);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<SessionResponse> load = new CompletableFuture<>();
+        CompletableFuture<SessionResponse> existing = inFlight.putIfAbsent(sessionId, load);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            long generation = generations.get(sessionId);
+            RemoteEntry remote = readRemote(sessionId);
+            SessionResponse response = remote.response();
+            boolean current = true;
+            if (response == null) {
+                response = loader.get();
+                current = writeRemote(sessionId, response, remote.generation());
+            }
+            if (current && generations.get(sessionId) == generation) {
+                localCache.put(sessionId, response);
+            }
+            load.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(sessionId, load);
+        }
+    }
+
+    /**
+     * Drop a session from both tiers on every node.
+     * Inside a transaction this happens after commit, so readers cannot re-cache the old state.
+     */
+    public void evict(UUID sessionId) {
+        if (!enabled) {
+            return;
+        }
+        broadcaster.afterCommit(() -> {
+            invalidateLocal(sessionId);
+            evictRemote(sessionId);
+        }, INVALIDATION_CHANNEL, sessionId.toString());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            invalidateLocal(UUID.fromString(body));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed session cache invalidation: {}", body);
+        }
+    }
+
+    private void evictRemote(UUID sessionId) {
+        try {
+            redisTemplate.execute(EVICT_SCRIPT, List.of(KEY_PREFIX + sessionId, GENERATION_PREFIX + sessionId),
+                    String.valueOf(generationTtl.toMillis()));
+        } catch (DataAccessException e) {
+            log.warn("Failed to invalidate cached session {} in Redis: {}", sessionId, e.getMessage());
+        }
+    }
+
+    private void invalidateLocal(UUID sessionId) {
+        generations.bump(sessionId);
+        localCache.invalidate(sessionId);
+    }
+
+    private RemoteEntry readRemote(UUID sessionId) {
+        try {
+            // The generation is read before the loader runs, so a later eviction is detected on write
+            List<String> values = redisTemplate.opsForValue()
+                    .multiGet(List.of(KEY_PREFIX + sessionId, GENERATION_PREFIX + sessionId));
+            if (values == null || values.size() != 2) {
+                return RemoteEntry.UNAVAILABLE;
+            }
+            String json = values.get(0);
+            String generation = values.get(1) != null ? values.get(1) : "";
+            return new RemoteEntry(json != null ? objectMapper.readValue(json, SessionResponse.class) : null, generation);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to read cached session {} from Redis: {}", sessionId, e.getMessage());
+            return RemoteEntry.UNAVAILABLE;
+        }
+    }
+
+    /**
+     * Write a loaded response to Redis unless the session was evicted since {@code generation} was read.
+     *
+     * @return False if an eviction raced with the load, so the response may be stale
+     */
+    private boolean writeRemote(UUID sessionId, SessionResponse response, String generation) {
+        if (generation == null) {
+            // Redis was unavailable; only the local generation check applies
+            return true;
+        }
+        try {
+            Long written = redisTemplate.execute(WRITE_IF_CURRENT_SCRIPT,
+                    List.of(KEY_PREFIX + sessionId, GENERATION_PREFIX + sessionId),
+                    generation, objectMapper.writeValueAsString(response), String.valueOf(redisTtl.toMillis()));
+            return !Long.valueOf(0).equals(written);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to cache session {} in Redis: {}", sessionId, e.getMessage());
+            return true;
+        }
+    }
+
+    private static SessionResponse await(CompletableFuture<SessionResponse> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
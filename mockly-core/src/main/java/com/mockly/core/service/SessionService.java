@@ -3,30 +3,36 @@ package com.mockly.core.service;
 import com.mockly.core.dto.session.CreateSessionRequest;
 import com.mockly.core.dto.session.SessionListResponse;
 import com.mockly.core.dto.session.SessionResponse;
+import com.mockly.core.dto.session.SessionSummaryListResponse;
+import com.mockly.core.dto.session.SessionSummaryResponse;
 import com.mockly.core.exception.BadRequestException;
 import com.mockly.core.exception.ResourceNotFoundException;
 import com.mockly.core.mapper.SessionMapper;
 import com.mockly.data.entity.Session;
 import com.mockly.data.entity.SessionParticipant;
+import com.mockly.data.entity.User;
 import com.mockly.data.enums.ParticipantRole;
 import com.mockly.data.enums.SessionStatus;
-import com.mockly.data.repository.ProfileRepository;
+import com.mockly.data.projection.SessionSummaryView;
 import com.mockly.data.repository.SessionParticipantRepository;
 import com.mockly.data.repository.SessionRepository;
 import com.mockly.data.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service for managing interview sessions.
@@ -37,16 +43,26 @@ import java.util.UUID;
 @Slf4j
 public class SessionService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final SessionRepository sessionRepository;
     private final SessionParticipantRepository participantRepository;
     private final UserRepository userRepository;
-    private final ProfileRepository profileRepository;
     private final SessionMapper sessionMapper;
     private final LiveKitService liveKitService;
+    private final SessionResponseCache sessionResponseCache;
+    private final OptimisticLockRetry optimisticLockRetry;
+    private final InterviewerCalendarService interviewerCalendar;
+    private final SessionStatsService sessionStats;
 
     /**
      * Create a new interview session.
-     * Validates that the user doesn't have an active session.
+     * A user may have only one scheduled or active session; this is enforced by a partial
+     * unique index, so concurrent requests cannot both succeed. A scheduled start time must fit
+     * the interviewer's calendar.
+     * The session ID is assigned up front, so the session (with its room ID) is one insert,
+     * both participants go out as one JDBC batch, and the response is mapped from the
+     * entities already in memory instead of being reloaded.
      *
      * @param userId ID of the user creating the session (candidate)
      * @param request Create session request
@@ -56,125 +72,163 @@ public class SessionService {
     public SessionResponse createSession(UUID userId, CreateSessionRequest request) {
         log.info("Creating session for user: {} with interviewer: {}", userId, request.interviewerId());
 
-        // Validate users exist
-        if (!userRepository.existsById(userId)) {
+        if (userId.equals(request.interviewerId())) {
+            throw new BadRequestException("Interviewer must be a different user");
+        }
+
+        // Validate users exist; profiles come along for the response
+        Map<UUID, User> users = userRepository.findAllWithProfileByIdIn(List.of(userId, request.interviewerId()))
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        User candidate = users.get(userId);
+        if (candidate == null) {
             throw new ResourceNotFoundException("User not found: " + userId);
         }
 
-        if (!userRepository.existsById(request.interviewerId())) {
+        User interviewer = users.get(request.interviewerId());
+        if (interviewer == null) {
             throw new ResourceNotFoundException("Interviewer not found: " + request.interviewerId());
         }
 
-        Optional<Session> activeSession = sessionRepository
-                .findFirstByCreatedByAndStatusInOrderByCreatedAtDesc(
-                        userId,
-                        List.of(SessionStatus.SCHEDULED, SessionStatus.ACTIVE)
-                );
-
-        if (activeSession.isPresent()) {
-            throw new BadRequestException(
-                    "User already has an active session. Please end the current session before creating a new one."
-            );
+        if (request.scheduledAt() != null) {
+            interviewerCalendar.checkBookable(interviewer.getId(), request.scheduledAt());
         }
 
-
+        UUID sessionId = UUID.randomUUID();
         Session session = Session.builder()
+                .id(sessionId)
                 .createdBy(userId)
+                .creator(candidate)
                 .status(SessionStatus.SCHEDULED)
                 .startsAt(request.scheduledAt())
                 .roomProvider("livekit")
+                .roomId(liveKitService.createRoom(sessionId))
                 .build();
 
-        session = sessionRepository.save(session);
-
-        String roomId = liveKitService.createRoom(session.getId());
-        session.setRoomId(roomId);
-        session = sessionRepository.save(session);
-
-        SessionParticipant candidateParticipant = SessionParticipant.builder()
-                .sessionId(session.getId())
-                .userId(userId)
-                .roleInSession(ParticipantRole.CANDIDATE)
-                .build();
-
-        participantRepository.save(candidateParticipant);
+        // Participants are persisted by cascade from the session
+        session.getParticipants().add(newParticipant(sessionId, candidate, ParticipantRole.CANDIDATE));
+        session.getParticipants().add(newParticipant(sessionId, interviewer, ParticipantRole.INTERVIEWER));
+
+        // The partial unique index rejects a second open session; flush so it surfaces here
+        try {
+            session = sessionRepository.saveAndFlush(session);
+        } catch (DataIntegrityViolationException e) {
+            if (isOpenSessionConflict(e)) {
+                throw new BadRequestException(
+                        "User already has an active session. Please end the current session before creating a new one."
+                );
+            }
+            throw e;
+        }
+        sessionStats.recordTransition(sessionId, null, SessionStatus.SCHEDULED);
 
-        SessionParticipant interviewerParticipant = SessionParticipant.builder()
-                .sessionId(session.getId())
-                .userId(request.interviewerId())
-                .roleInSession(ParticipantRole.INTERVIEWER)
-                .build();
+        if (request.scheduledAt() != null) {
+            interviewerCalendar.onSessionBooked(sessionId, interviewer.getId(), request.scheduledAt());
+        }
 
-        participantRepository.save(interviewerParticipant);
+        log.info("Session created successfully: {}", sessionId);
 
-        log.info("Session created successfully: {}", session.getId());
+        return sessionMapper.toResponse(session);
+    }
 
-        session = sessionRepository.findById(session.getId())
-                .orElseThrow(() -> new ResourceNotFoundException("Session not found after creation"));
+    private static boolean isOpenSessionConflict(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && Session.OPEN_SESSION_PER_CREATOR_INDEX.equalsIgnoreCase(violation.getConstraintName());
+    }
 
-        return sessionMapper.toResponse(session);
+    private SessionParticipant newParticipant(UUID sessionId, User user, ParticipantRole role) {
+        return SessionParticipant.builder()
+                .sessionId(sessionId)
+                .userId(user.getId())
+                .user(user)
+                .roleInSession(role)
+                .build();
     }
 
     /**
      * Join an existing session.
      * Updates session status to ACTIVE if it was SCHEDULED.
+     * Retried on optimistic-lock conflicts, so a concurrent status change is re-validated
+     * rather than overwritten.
      *
      * @param sessionId Session ID
      * @param userId User ID joining the session
      * @return Updated session response
      */
-    @Transactional
     public SessionResponse joinSession(UUID sessionId, UUID userId) {
         log.info("User {} joining session {}", userId, sessionId);
 
-        Session session = sessionRepository.findById(sessionId)
-                .orElseThrow(() -> new ResourceNotFoundException("Session not found: " + sessionId));
+        SessionResponse response = optimisticLockRetry.execute("joinSession", () -> applyJoin(sessionId, userId));
 
+        sessionResponseCache.evict(sessionId);
+        log.info("User {} successfully joined session {}", userId, sessionId);
+
+        return response;
+    }
+
+    private SessionResponse applyJoin(UUID sessionId, UUID userId) {
+        Session session = sessionRepository.findDetailedById(sessionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Session not found: " + sessionId));
 
         if (session.getStatus() == SessionStatus.ENDED || session.getStatus() == SessionStatus.CANCELED) {
             throw new BadRequestException("Cannot join a session that has ended or been canceled");
         }
 
+        SessionParticipant participant = session.getParticipants().stream()
+                .filter(p -> p.getUserId().equals(userId))
+                .findFirst()
+                .orElseThrow(() -> {
+                    log.warn("User {} joining session {} but not in participant list", userId, sessionId);
+                    return new BadRequestException("User is not authorized to join this session");
+                });
 
-        Optional<SessionParticipant> existingParticipant = participantRepository
-                .findBySessionIdAndUserId(sessionId, userId);
-
-        if (existingParticipant.isPresent()) {
-            SessionParticipant participant = existingParticipant.get();
-            if (participant.getLeftAt() != null) {
-                // Re-joining: update leftAt to null
-                participant.setLeftAt(null);
-                participant.setJoinedAt(OffsetDateTime.now());
-                participantRepository.save(participant);
-            }
-
-        } else {
-
-            log.warn("User {} joining session {} but not in participant list", userId, sessionId);
-            throw new BadRequestException("User is not authorized to join this session");
+        OffsetDateTime now = OffsetDateTime.now();
+        if (participant.getLeftAt() != null) {
+            // Re-joining: clear leftAt
+            participant.setLeftAt(null);
+            participant.setJoinedAt(now);
+        } else if (participant.getJoinedAt() == null) {
+            participant.setJoinedAt(now);
         }
 
-
         if (session.getStatus() == SessionStatus.SCHEDULED) {
             session.setStatus(SessionStatus.ACTIVE);
-            session.setStartsAt(OffsetDateTime.now());
-            sessionRepository.save(session);
+            session.setStartsAt(now);
+            sessionStats.recordTransition(sessionId, SessionStatus.SCHEDULED, SessionStatus.ACTIVE);
+            interviewerCalendar.onSessionStarted(sessionId, now);
         }
 
+        // Flush so a stale session version fails here and the response carries the written state
+        sessionRepository.flush();
+        return sessionMapper.toResponse(session);
+    }
 
-        SessionParticipant participant = existingParticipant.get();
-        if (participant.getJoinedAt() == null) {
-            participant.setJoinedAt(OffsetDateTime.now());
-            participantRepository.save(participant);
+    /**
+     * Mark a scheduled session as active, e.g. when its LiveKit room starts.
+     * Retried on optimistic-lock conflicts.
+     *
+     * @param sessionId Session ID
+     * @return true if the session was started by this call, false if it does not exist or is not scheduled
+     */
+    public boolean startSession(UUID sessionId) {
+        boolean started = optimisticLockRetry.execute("startSession", () -> {
+            Session session = sessionRepository.findById(sessionId).orElse(null);
+            if (session == null || session.getStatus() != SessionStatus.SCHEDULED) {
+                return false;
+            }
+            OffsetDateTime now = OffsetDateTime.now();
+            session.setStatus(SessionStatus.ACTIVE);
+            session.setStartsAt(now);
+            sessionStats.recordTransition(sessionId, SessionStatus.SCHEDULED, SessionStatus.ACTIVE);
+            interviewerCalendar.onSessionStarted(sessionId, now);
+            return true;
+        });
+
+        if (started) {
+            sessionResponseCache.evict(sessionId);
         }
-
-        log.info("User {} successfully joined session {}", userId, sessionId);
-
-
-        session = sessionRepository.findById(sessionId)
-                .orElseThrow(() -> new ResourceNotFoundException("Session not found"));
-
-        return sessionMapper.toResponse(session);
+        return started;
     }
 
     /**
@@ -195,6 +249,7 @@ public class SessionService {
         if (participant.getLeftAt() == null) {
             participant.setLeftAt(OffsetDateTime.now());
             participantRepository.save(participant);
+            sessionResponseCache.evict(sessionId);
             log.info("User {} left session {}", userId, sessionId);
         } else {
             log.info("User {} already left session {}", userId, sessionId);
@@ -223,25 +278,43 @@ public class SessionService {
             throw new BadRequestException("Only session creator or participants can end the session");
         }
 
-        if (session.getStatus() == SessionStatus.ENDED) {
+        if (!finishSession(sessionId)) {
             log.info("Session {} already ended", sessionId);
             return;
         }
 
-        session.setStatus(SessionStatus.ENDED);
-        session.setEndsAt(OffsetDateTime.now());
-        sessionRepository.save(session);
+        log.info("Session {} ended successfully", sessionId);
+    }
 
-        // Mark all participants as left
-        List<SessionParticipant> participants = participantRepository.findBySessionId(sessionId);
-        for (SessionParticipant participant : participants) {
-            if (participant.getLeftAt() == null) {
-                participant.setLeftAt(OffsetDateTime.now());
-                participantRepository.save(participant);
-            }
+    /**
+     * End a session and mark all participants still in it as left.
+     * Uses two set-based updates regardless of the number of participants; the session row is
+     * locked first so the status it replaces is counted correctly.
+     *
+     * @param sessionId Session ID
+     * @return true if the session was ended by this call, false if it was already ended or does not exist
+     */
+    @Transactional
+    public boolean finishSession(UUID sessionId) {
+        SessionStatus previous = sessionRepository.lockStatusById(sessionId)
+                .map(SessionStatus::valueOf)
+                .orElse(null);
+        if (previous == null || previous == SessionStatus.ENDED) {
+            return false;
         }
 
-        log.info("Session {} ended successfully", sessionId);
+        OffsetDateTime now = OffsetDateTime.now();
+        if (sessionRepository.markEnded(sessionId, now) == 0) {
+            return false;
+        }
+        sessionStats.recordTransition(sessionId, previous, SessionStatus.ENDED);
+
+        int closed = participantRepository.markAllLeft(sessionId, now);
+        log.debug("Closed {} open participants in session {}", closed, sessionId);
+
+        sessionResponseCache.evict(sessionId);
+        interviewerCalendar.onSessionClosed(sessionId);
+        return true;
     }
 
     /**
@@ -254,104 +327,127 @@ public class SessionService {
      */
     @Transactional(readOnly = true)
     public SessionResponse getSession(UUID sessionId, UUID userId) {
-        Session session = sessionRepository.findById(sessionId)
-                .orElseThrow(() -> new ResourceNotFoundException("Session not found: " + sessionId));
+        SessionResponse response = getSessionResponse(sessionId);
 
         // Validate user has access (creator or participant)
-        boolean isCreator = session.getCreatedBy().equals(userId);
-        boolean isParticipant = participantRepository.existsBySessionIdAndUserId(sessionId, userId);
+        boolean isCreator = response.createdBy().equals(userId);
+        boolean isParticipant = response.participants().stream()
+                .anyMatch(participant -> participant.userId().equals(userId));
 
         if (!isCreator && !isParticipant) {
             throw new BadRequestException("You don't have access to this session");
         }
 
-        return sessionMapper.toResponse(session);
+        return response;
+    }
+
+    /**
+     * Get a mapped session through the session cache, without an access check.
+     * Used by event publishing and webhooks after a state change.
+     *
+     * @param sessionId Session ID
+     * @return Session response
+     */
+    @Transactional(readOnly = true)
+    public SessionResponse getSessionResponse(UUID sessionId) {
+        return sessionResponseCache.get(sessionId, () -> sessionMapper.toResponse(
+                sessionRepository.findDetailedById(sessionId)
+                        .orElseThrow(() -> new ResourceNotFoundException("Session not found: " + sessionId))));
     }
 
     /**
      * List sessions for a user.
-     * Returns sessions where user is creator or participant.
+     * Returns sessions where user is creator or participant, newest first.
+     * The creator/participant union, status filter and paging all run in the database.
+     * When a cursor is given the page is read by keyset on (created_at, id),
+     * {@code page} is ignored and the total is not counted, so deep pages never scan all of
+     * the user's sessions; otherwise offset paging is used and the total is included.
      *
      * @param userId User ID
-     * @param page Page number (0-indexed)
-     * @param size Page size
+     * @param page Page number (0-indexed), used when no cursor is given
+     * @param size Page size (1-100)
      * @param status Optional status filter
+     * @param cursor Optional opaque cursor from a previous response's {@code nextCursor}
      * @return Paginated session list
      */
     @Transactional(readOnly = true)
-    public SessionListResponse listSessions(UUID userId, int page, int size, SessionStatus status) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-
-        Page<Session> sessionsPage;
-        if (status != null) {
-            // Filter by status - get sessions where user is creator or participant
-            List<Session> allCreatedSessions = sessionRepository
-                    .findByCreatedByOrderByCreatedAtDesc(userId);
-            List<Session> createdSessions = allCreatedSessions.stream()
-                    .filter(s -> s.getStatus() == status)
-                    .toList();
-            List<Session> participantSessions = sessionRepository
-                    .findByParticipantUserIdAndStatus(userId, status);
-
-            // Combine and paginate manually (simplified - in production, use proper query)
-            List<Session> allSessions = createdSessions;
-            for (Session session : participantSessions) {
-                if (!allSessions.contains(session)) {
-                    allSessions.add(session);
-                }
-            }
-            allSessions.sort((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()));
-
-            int start = page * size;
-            int end = Math.min(start + size, allSessions.size());
-            List<Session> pagedSessions = start < allSessions.size()
-                    ? allSessions.subList(start, end)
-                    : List.of();
-
-            sessionsPage = new org.springframework.data.domain.PageImpl<>(
-                    pagedSessions,
-                    pageable,
-                    allSessions.size()
-            );
+    public SessionListResponse listSessions(UUID userId, int page, int size, SessionStatus status, String cursor) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("Page must be >= 0 and size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        List<String> statuses = (status != null ? List.of(status) : List.of(SessionStatus.values()))
+                .stream()
+                .map(SessionStatus::name)
+                .toList();
+
+        // Fetch one extra id to know whether there is a next page
+        boolean keyset = cursor != null && !cursor.isBlank();
+        List<UUID> ids;
+        if (keyset) {
+            SessionCursor after = SessionCursor.decode(cursor);
+            ids = sessionRepository.findUserSessionIdsAfter(
+                    userId, statuses, after.createdAt(), after.id(), size + 1);
         } else {
-            // Get all sessions where user is creator or participant
-            List<Session> createdSessions = sessionRepository
-                    .findByCreatedByOrderByCreatedAtDesc(userId);
-            List<Session> participantSessions = sessionRepository
-                    .findByParticipantUserId(userId);
-
-            // Combine and paginate
-            List<Session> allSessions = createdSessions;
-            for (Session session : participantSessions) {
-                if (!allSessions.contains(session)) {
-                    allSessions.add(session);
-                }
-            }
-            allSessions.sort((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()));
-
-            int start = page * size;
-            int end = Math.min(start + size, allSessions.size());
-            List<Session> pagedSessions = start < allSessions.size()
-                    ? allSessions.subList(start, end)
-                    : List.of();
-
-            sessionsPage = new org.springframework.data.domain.PageImpl<>(
-                    pagedSessions,
-                    pageable,
-                    allSessions.size()
-            );
+            ids = sessionRepository.findUserSessionIdsPage(
+                    userId, statuses, size + 1, (long) page * size);
         }
+        boolean hasNext = ids.size() > size;
+        if (hasNext) {
+            ids = ids.subList(0, size);
+        }
+
+        // Load the page with its associations in a fixed number of queries, then restore the order
+        Map<UUID, Session> byId = sessionRepository.findDetailedByIdIn(ids).stream()
+                .collect(Collectors.toMap(Session::getId, Function.identity()));
+        List<Session> sessions = ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
 
-        List<SessionResponse> sessionResponses = sessionMapper.toResponseList(sessionsPage.getContent());
+        String nextCursor = hasNext && !sessions.isEmpty()
+                ? SessionCursor.of(sessions.get(sessions.size() - 1)).encode()
+                : null;
+
+        Long total = keyset ? null : sessionRepository.countUserSessions(userId, statuses);
+        List<SessionResponse> sessionResponses = sessionMapper.toResponseList(sessions);
 
         return new SessionListResponse(
                 sessionResponses,
-                sessionsPage.getTotalElements(),
-                sessionsPage.getNumber(),
-                sessionsPage.getSize()
+                total,
+                page,
+                size,
+                nextCursor
         );
     }
 
+    /**
+     * List lightweight session summaries for a user, newest first.
+     * Backed by a constructor projection, so no session, participant or artifact
+     * entities are loaded.
+     *
+     * @param userId User ID
+     * @param page Page number (0-indexed)
+     * @param size Page size
+     * @param status Optional status filter
+     * @return Page of session summaries
+     */
+    @Transactional(readOnly = true)
+    public SessionSummaryListResponse listSessionSummaries(UUID userId, int page, int size, SessionStatus status) {
+        if (page < 0 || size < 1) {
+            throw new BadRequestException("Page must be >= 0 and size must be >= 1");
+        }
+
+        List<SessionStatus> statuses = status != null ? List.of(status) : List.of(SessionStatus.values());
+        List<SessionSummaryResponse> summaries = sessionRepository
+                .findSummariesByUserId(userId, statuses, PageRequest.of(page, size))
+                .stream()
+                .map(this::toSummaryResponse)
+                .toList();
+
+        return new SessionSummaryListResponse(summaries, page, size);
+    }
+
     /**
      * Get active session for a user.
      *
@@ -366,46 +462,25 @@ public class SessionService {
                         List.of(SessionStatus.SCHEDULED, SessionStatus.ACTIVE)
                 );
 
-        return activeSession.map(sessionMapper::toResponse);
+        return activeSession
+                .flatMap(session -> sessionRepository.findDetailedById(session.getId()))
+                .map(sessionMapper::toResponse);
     }
 
-    /**
-     * Get user display name from profile.
-     * Combines name and surname, falls back to email if not set.
-     *
-     * @param userId User ID
-     * @return Display name (name + surname) or email
-     */
-    @Transactional(readOnly = true)
-    public String getUserDisplayName(UUID userId) {
-        return profileRepository.findByUserId(userId)
-                .map(profile -> {
-                    String name = profile.getName();
-                    String surname = profile.getSurname();
-                    
-                    // Combine name and surname if both are set
-                    if (name != null && !name.isBlank() && surname != null && !surname.isBlank()) {
-                        return name + " " + surname;
-                    }
-                    // Use only name if surname is not set
-                    if (name != null && !name.isBlank()) {
-                        return name;
-                    }
-                    // Use only surname if name is not set
-                    if (surname != null && !surname.isBlank()) {
-                        return surname;
-                    }
-                    // Fallback to email if neither name nor surname is set
-                    return userRepository.findById(userId)
-                            .map(user -> user.getEmail())
-                            .orElse("User");
-                })
-                .orElseGet(() -> {
-                    // If profile doesn't exist, use email
-                    return userRepository.findById(userId)
-                            .map(user -> user.getEmail())
-                            .orElse("User");
-                });
+    private SessionSummaryResponse toSummaryResponse(SessionSummaryView view) {
+        String counterpartDisplayName = null;
+        if (view.counterpartId() != null) {
+            counterpartDisplayName = DisplayNameResolver.format(
+                    view.counterpartName(), view.counterpartSurname(), view.counterpartEmail());
+        }
+        return new SessionSummaryResponse(
+                view.id(),
+                view.status(),
+                view.startsAt(),
+                view.endsAt(),
+                view.createdAt(),
+                view.counterpartId(),
+                counterpartDisplayName
+        );
     }
 }
-
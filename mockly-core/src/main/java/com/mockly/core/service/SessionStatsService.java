@@ -0,0 +1,135 @@
+package com.mockly.core.service;
+
+import com.mockly.core.dto.session.SessionStatsResponse;
+import com.mockly.data.enums.SessionStatus;
+import com.mockly.data.repository.SessionStatusCounterRepository;
+import com.mockly.data.repository.SessionStatusCounterRepository.Transition;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Session counts per status for dashboards, read from precomputed counters instead of counting rows.
+ * <p>
+ * Every status transition records itself through {@link #recordTransition} in the transaction that
+ * performs it, so counters commit or roll back with the change. A reconciliation job recounts from
+ * the sessions table and repairs any drift, e.g. from rows changed outside the application. It is
+ * safe to run on several nodes at once: it locks the counter rows it repairs.
+ */
+@Service
+@Slf4j
+public class SessionStatsService {
+
+    private final SessionStatusCounterRepository counterRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean reconcileEnabled;
+    private final int reconcileBatchSize;
+
+    public SessionStatsService(
+            SessionStatusCounterRepository counterRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${session.stats.reconcile.enabled:true}") boolean reconcileEnabled,
+            @Value("${session.stats.reconcile.batch-size:500}") int reconcileBatchSize) {
+        this.counterRepository = counterRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.reconcileEnabled = reconcileEnabled;
+        this.reconcileBatchSize = Math.max(1, reconcileBatchSize);
+    }
+
+    /**
+     * Count a session moving from one status to another.
+     *
+     * @param sessionId Session ID; its participants must already be written
+     * @param from Previous status, or null for a new session
+     * @param to New status
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransition(UUID sessionId, SessionStatus from, SessionStatus to) {
+        counterRepository.apply(List.of(new Transition(sessionId, from, to)));
+    }
+
+    /**
+     * Count several transitions with one statement per counter table.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransitions(List<Transition> transitions) {
+        counterRepository.apply(transitions);
+    }
+
+    /**
+     * Session counts of one user (as candidate or interviewer).
+     */
+    public SessionStatsResponse getUserStats(UUID userId) {
+        return toResponse(counterRepository.findUserCounts(userId));
+    }
+
+    /**
+     * Session counts across all users.
+     */
+    public SessionStatsResponse getGlobalStats() {
+        return toResponse(counterRepository.findTotals());
+    }
+
+    /**
+     * Recount sessions and repair drifted counters: overall counts first, then users in ID order,
+     * each chunk in its own short transaction.
+     */
+    @Scheduled(cron = "${session.stats.reconcile.cron:0 30 3 * * *}")
+    public void reconcile() {
+        if (!reconcileEnabled) {
+            return;
+        }
+
+        int repaired = Objects.requireNonNull(transactionTemplate.execute(status -> counterRepository.reconcileTotals()));
+        if (repaired > 0) {
+            log.warn("Repaired {} drifted overall session counters", repaired);
+        }
+
+        int users = 0;
+        repaired = 0;
+        UUID after = new UUID(0, 0);
+        List<UUID> userIds;
+        do {
+            userIds = counterRepository.findUserIdsAfter(after, reconcileBatchSize);
+            if (userIds.isEmpty()) {
+                break;
+            }
+            List<UUID> chunk = userIds;
+            try {
+                // Committed first so the rows exist to be locked below
+                transactionTemplate.executeWithoutResult(status -> counterRepository.createUserRows(chunk));
+                repaired += Objects.requireNonNull(transactionTemplate.execute(status -> counterRepository.reconcileUsers(chunk)));
+            } catch (DataAccessException e) {
+                log.warn("Session counter reconciliation failed for {} users, retrying next run: {}",
+                        chunk.size(), e.getMessage());
+            }
+            users += userIds.size();
+            after = userIds.get(userIds.size() - 1);
+        } while (userIds.size() == reconcileBatchSize);
+
+        if (repaired > 0) {
+            log.warn("Repaired {} drifted session counters across {} users", repaired, users);
+        } else {
+            log.info("Session counters of {} users are consistent", users);
+        }
+    }
+
+    private static SessionStatsResponse toResponse(Map<SessionStatus, Long> counts) {
+        long scheduled = counts.getOrDefault(SessionStatus.SCHEDULED, 0L);
+        long active = counts.getOrDefault(SessionStatus.ACTIVE, 0L);
+        long ended = counts.getOrDefault(SessionStatus.ENDED, 0L);
+        long canceled = counts.getOrDefault(SessionStatus.CANCELED, 0L);
+        return new SessionStatsResponse(scheduled, active, ended, canceled, scheduled + active + ended + canceled);
+    }
+}
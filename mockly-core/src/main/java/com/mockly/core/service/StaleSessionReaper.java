@@ -0,0 +1,201 @@
+package com.mockly.core.service;
+
+import com.mockly.data.enums.SessionStatus;
+import com.mockly.data.repository.SessionParticipantRepository;
+import com.mockly.data.repository.SessionRepository;
+import com.mockly.data.repository.SessionStatusCounterRepository.Transition;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Expires sessions left open because their room never started or the room_finished webhook was lost.
+ * <p>
+ * Stale sessions are closed in chunks, each chunk in its own short transaction: lock a batch of IDs
+ * (skipping rows other writers hold), expire them, and mark their participants as left. Only one node
+ * runs the job at a time, guarded by a Redis lease that is renewed between chunks.
+ */
+@Service
+@Slf4j
+public class StaleSessionReaper {
+
+    static final String LEASE_KEY = "session-reaper:lease";
+
+    /**
+     * KEYS: lease key. ARGV: owner token, lease TTL in ms. Extends the lease only if we still own it.
+     */
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * KEYS: lease key. ARGV: owner token. Deletes the lease only if we still own it.
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final SessionRepository sessionRepository;
+    private final SessionParticipantRepository participantRepository;
+    private final SessionResponseCache sessionResponseCache;
+    private final SessionStatsService sessionStats;
+    private final InterviewerCalendarService interviewerCalendar;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration scheduledTimeout;
+    private final Duration activeTimeout;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Duration leaseTtl;
+
+    public StaleSessionReaper(
+            SessionRepository sessionRepository,
+            SessionParticipantRepository participantRepository,
+            SessionResponseCache sessionResponseCache,
+            SessionStatsService sessionStats,
+            InterviewerCalendarService interviewerCalendar,
+            RedisTemplate<String, String> redisTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${session.reaper.enabled:true}") boolean enabled,
+            @Value("${session.reaper.scheduled-timeout-minutes:1440}") long scheduledTimeoutMinutes,
+            @Value("${session.reaper.active-timeout-minutes:480}") long activeTimeoutMinutes,
+            @Value("${session.reaper.batch-size:500}") int batchSize,
+            @Value("${session.reaper.max-batches:100}") int maxBatches,
+            @Value("${session.reaper.lease-seconds:120}") long leaseSeconds) {
+        this.sessionRepository = sessionRepository;
+        this.participantRepository = participantRepository;
+        this.sessionResponseCache = sessionResponseCache;
+        this.sessionStats = sessionStats;
+        this.interviewerCalendar = interviewerCalendar;
+        this.redisTemplate = redisTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.scheduledTimeout = Duration.ofMinutes(scheduledTimeoutMinutes);
+        this.activeTimeout = Duration.ofMinutes(activeTimeoutMinutes);
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.leaseTtl = Duration.ofSeconds(leaseSeconds);
+    }
+
+    /**
+     * Expire stale sessions if this node wins the lease; otherwise do nothing until the next run.
+     */
+    @Scheduled(
+            initialDelayString = "${session.reaper.interval-ms:300000}",
+            fixedDelayString = "${session.reaper.interval-ms:300000}"
+    )
+    public void reap() {
+        if (!enabled) {
+            return;
+        }
+
+        String token = UUID.randomUUID().toString();
+        if (!acquireLease(token)) {
+            log.debug("Stale session reaper lease held by another node, skipping");
+            return;
+        }
+
+        try {
+            int expired = expireStaleSessions(token);
+            if (expired > 0) {
+                log.info("Expired {} stale sessions", expired);
+            }
+        } finally {
+            releaseLease(token);
+        }
+    }
+
+    private int expireStaleSessions(String token) {
+        OffsetDateTime now = OffsetDateTime.now();
+        OffsetDateTime scheduledBefore = now.minus(scheduledTimeout);
+        OffsetDateTime activeBefore = now.minus(activeTimeout);
+
+        int total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            if (batch > 0 && !renewLease(token)) {
+                log.warn("Lost stale session reaper lease after {} sessions, stopping", total);
+                break;
+            }
+
+            List<UUID> sessionIds = transactionTemplate.execute(status -> {
+                List<UUID> ids = sessionRepository.lockStaleSessionIds(scheduledBefore, activeBefore, batchSize);
+                if (!ids.isEmpty()) {
+                    // Read before expiring; the rows are locked, so the statuses cannot change meanwhile
+                    List<Transition> transitions = sessionRepository.findStatusesByIdIn(ids).stream()
+                            .map(view -> new Transition(view.sessionId(), view.status(), expiredStatus(view.status())))
+                            .toList();
+                    OffsetDateTime endedAt = OffsetDateTime.now();
+                    sessionRepository.expireOpenSessions(ids, endedAt);
+                    participantRepository.markAllLeftInSessions(ids, endedAt);
+                    sessionStats.recordTransitions(transitions);
+                }
+                return ids;
+            });
+
+            // Committed above, so evicting now cannot race a reader back to the old state
+            sessionIds.forEach(sessionResponseCache::evict);
+            interviewerCalendar.onSessionsClosed(sessionIds);
+            total += sessionIds.size();
+
+            if (sessionIds.size() < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Status an open session gets when it expires; mirrors {@link SessionRepository#expireOpenSessions}.
+     */
+    private static SessionStatus expiredStatus(SessionStatus status) {
+        return status == SessionStatus.SCHEDULED ? SessionStatus.CANCELED : SessionStatus.ENDED;
+    }
+
+    private boolean acquireLease(String token) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LEASE_KEY, token, leaseTtl));
+        } catch (DataAccessException e) {
+            log.warn("Could not acquire stale session reaper lease: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean renewLease(String token) {
+        try {
+            Long renewed = redisTemplate.execute(
+                    RENEW_SCRIPT, List.of(LEASE_KEY), token, String.valueOf(leaseTtl.toMillis()));
+            return renewed != null && renewed == 1L;
+        } catch (DataAccessException e) {
+            log.warn("Could not renew stale session reaper lease: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void releaseLease(String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LEASE_KEY), token);
+        } catch (DataAccessException e) {
+            // The lease expires on its own
+            log.warn("Could not release stale session reaper lease: {}", e.getMessage());
+        }
+    }
+}
@@ -20,48 +20,30 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final ProfileRepository profileRepository;
+    private final InterviewerSearchService interviewerSearchService;
+    private final DisplayNameResolver displayNameResolver;
 
     public UserResponse getUserById(UUID userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException(userId.toString()));
+        Profile profile = profileRepository.findWithUserByUserId(userId)
+                .orElseThrow(() -> userRepository.existsById(userId)
+                        ? new ResourceNotFoundException("Profile not found for user: " + userId)
+                        : new UserNotFoundException(userId.toString()));
 
-        Profile profile = profileRepository.findByUserId(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("Profile not found for user: " + userId));
-
-        return new UserResponse(
-                user.getId(),
-                user.getEmail(),
-                profile.getName(),
-                profile.getSurname(),
-                profile.getRole(),
-                profile.getAvatarUrl(),
-                profile.getLevel(),
-                profile.getSkills()
-        );
+        return toResponse(profile.getUser(), profile);
     }
 
     public UserResponse getUserByEmail(String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UserNotFoundException(email));
-
-        Profile profile = profileRepository.findByUserId(user.getId())
-                .orElseThrow(() -> new ResourceNotFoundException("Profile not found for user: " + user.getId()));
+        Profile profile = profileRepository.findWithUserByEmail(email)
+                .orElseThrow(() -> userRepository.existsByEmail(email)
+                        ? new ResourceNotFoundException("Profile not found for user: " + email)
+                        : new UserNotFoundException(email));
 
-        return new UserResponse(
-                user.getId(),
-                user.getEmail(),
-                profile.getName(),
-                profile.getSurname(),
-                profile.getRole(),
-                profile.getAvatarUrl(),
-                profile.getLevel(),
-                profile.getSkills()
-        );
+        return toResponse(profile.getUser(), profile);
     }
 
     @Transactional
     public UserResponse updateProfile(UUID userId, UpdateProfileRequest request) {
-        Profile profile = profileRepository.findByUserId(userId)
+        Profile profile = profileRepository.findWithUserByUserId(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Profile not found for user: " + userId));
 
         if (request.name() != null) {
@@ -76,12 +58,20 @@ public class UserService {
         if (request.level() != null) {
             profile.setLevel(request.level());
         }
+        if (request.skills() != null) {
+            profile.setSkills(request.skills().stream().map(String::trim).distinct().toList());
+        }
 
         profile = profileRepository.save(profile);
+        interviewerSearchService.onProfileChanged(profile);
+        if (request.name() != null || request.surname() != null) {
+            displayNameResolver.invalidate(userId);
+        }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException(userId.toString()));
+        return toResponse(profile.getUser(), profile);
+    }
 
+    private UserResponse toResponse(User user, Profile profile) {
         return new UserResponse(
                 user.getId(),
                 user.getEmail(),
@@ -94,4 +84,3 @@ public class UserService {
         );
     }
 }
-
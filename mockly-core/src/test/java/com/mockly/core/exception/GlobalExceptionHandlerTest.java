@@ -0,0 +1,36 @@
+package com.mockly.core.exception;
+
+import com.mockly.security.crypto.PasswordHashingBusyException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GlobalExceptionHandler Tests")
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    @DisplayName("Should answer a saturated password hashing pool with 503 and Retry-After")
+    void shouldMapBusyHashingTo503() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+
+        // When
+        ResponseEntity<ErrorResponse> response = handler.handlePasswordHashingBusyException(
+                new PasswordHashingBusyException("Password hashing pool is saturated",
+                        new TaskRejectedException("Executor [password-hashing] did not accept task")), request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(response.getBody().getMessage()).isEqualTo("Server is busy, please retry shortly");
+        assertThat(response.getBody().getPath()).isEqualTo("/api/auth/login");
+    }
+}
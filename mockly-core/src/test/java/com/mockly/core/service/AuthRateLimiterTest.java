@@ -0,0 +1,80 @@
+package com.mockly.core.service;
+
+import com.mockly.core.exception.TooManyRequestsException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthRateLimiter Tests")
+class AuthRateLimiterTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Test
+    @DisplayName("Should reject when Redis script reports an empty bucket")
+    void shouldRejectWhenRedisBucketEmpty() {
+        // Given
+        AuthRateLimiter limiter = new AuthRateLimiter(redisTemplate, true, 5, 5, 2, 2);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of(0L, 2500L));
+
+        // When & Then
+        assertThatThrownBy(() -> limiter.check("10.0.0.1", "test@example.com"))
+                .isInstanceOf(TooManyRequestsException.class)
+                .satisfies(e -> assertThat(((TooManyRequestsException) e).getRetryAfterSeconds()).isEqualTo(3));
+    }
+
+    @Test
+    @DisplayName("Should fall back to local limiter when Redis is unavailable")
+    void shouldFallBackToLocalLimiter() {
+        // Given
+        AuthRateLimiter limiter = new AuthRateLimiter(redisTemplate, true, 5, 5, 2, 2);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        // When & Then: the email bucket (capacity 2) runs out first
+        assertThatCode(() -> limiter.check("10.0.0.1", "Test@Example.com")).doesNotThrowAnyException();
+        assertThatCode(() -> limiter.check("10.0.0.2", "test@example.com")).doesNotThrowAnyException();
+        assertThatThrownBy(() -> limiter.check("10.0.0.3", "test@example.com"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThatCode(() -> limiter.check("10.0.0.3", "other@example.com")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should reject a limit that never refills")
+    void shouldRejectNonPositiveRefill() {
+        // When & Then
+        assertThatThrownBy(() -> new AuthRateLimiter(redisTemplate, true, 5, 0, 2, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AuthRateLimiter(redisTemplate, true, 5, 5, 2, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should not touch Redis when disabled")
+    void shouldSkipWhenDisabled() {
+        // Given
+        AuthRateLimiter limiter = new AuthRateLimiter(redisTemplate, false, 5, 5, 2, 2);
+
+        // When
+        limiter.check("10.0.0.1", "test@example.com");
+
+        // Then
+        verifyNoInteractions(redisTemplate);
+    }
+}
@@ -10,9 +10,13 @@ import com.mockly.core.exception.TokenInvalidException;
 import com.mockly.core.exception.UserNotFoundException;
 import com.mockly.data.entity.Profile;
 import com.mockly.data.entity.User;
+import com.mockly.data.projection.UserCredentials;
 import com.mockly.data.repository.ProfileRepository;
 import com.mockly.data.repository.UserRepository;
+import com.mockly.security.jwt.JwtPrincipal;
 import com.mockly.security.jwt.JwtTokenProvider;
+import com.mockly.security.jwt.TokenRevocationService;
+import io.jsonwebtoken.JwtException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,8 +26,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -56,6 +62,12 @@ class AuthServiceTest {
     @Mock
     private ValueOperations<String, String> valueOperations;
 
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private InterviewerSearchService interviewerSearchService;
+
     @InjectMocks
     private AuthService authService;
 
@@ -146,10 +158,9 @@ class AuthServiceTest {
     void shouldLoginSuccessfully() {
         // Given
         LoginRequest loginRequest = new LoginRequest("test@example.com", "password123");
-        when(userRepository.findByEmail(loginRequest.email())).thenReturn(Optional.of(testUser));
+        when(userRepository.findCredentialsByEmail(loginRequest.email())).thenReturn(Optional.of(testCredentials()));
         when(passwordEncoder.matches(loginRequest.password(), testUser.getPasswordHash()))
                 .thenReturn(true);
-        when(profileRepository.findByUserId(testUserId)).thenReturn(Optional.of(testProfile));
         when(jwtTokenProvider.generateAccessToken(testUserId, testProfile.getRole()))
                 .thenReturn("access-token");
         when(jwtTokenProvider.generateRefreshToken(testUserId))
@@ -164,7 +175,8 @@ class AuthServiceTest {
         assertThat(response.refreshToken()).isEqualTo("refresh-token");
         assertThat(response.userId()).isEqualTo(testUserId);
 
-        verify(userRepository).findByEmail(loginRequest.email());
+        verify(userRepository).findCredentialsByEmail(loginRequest.email());
+        verifyNoInteractions(profileRepository);
         verify(passwordEncoder).matches(loginRequest.password(), testUser.getPasswordHash());
         verify(jwtTokenProvider).generateAccessToken(testUserId, testProfile.getRole());
         verify(jwtTokenProvider).generateRefreshToken(testUserId);
@@ -175,7 +187,7 @@ class AuthServiceTest {
     void shouldThrowExceptionWhenUserNotFound() {
         // Given
         LoginRequest loginRequest = new LoginRequest("test@example.com", "password123");
-        when(userRepository.findByEmail(loginRequest.email())).thenReturn(Optional.empty());
+        when(userRepository.findCredentialsByEmail(loginRequest.email())).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> authService.login(loginRequest))
@@ -189,7 +201,7 @@ class AuthServiceTest {
     void shouldThrowExceptionForInvalidPassword() {
         // Given
         LoginRequest loginRequest = new LoginRequest("test@example.com", "wrongPassword");
-        when(userRepository.findByEmail(loginRequest.email())).thenReturn(Optional.of(testUser));
+        when(userRepository.findCredentialsByEmail(loginRequest.email())).thenReturn(Optional.of(testCredentials()));
         when(passwordEncoder.matches(loginRequest.password(), testUser.getPasswordHash()))
                 .thenReturn(false);
 
@@ -206,16 +218,15 @@ class AuthServiceTest {
         // Given
         String refreshToken = "valid-refresh-token";
         RefreshTokenRequest request = new RefreshTokenRequest(refreshToken);
-        
-        when(jwtTokenProvider.validateRefreshToken(refreshToken)).thenReturn(true);
-        when(jwtTokenProvider.getUserIdFromRefreshToken(refreshToken)).thenReturn(testUserId);
-        when(redisTemplate.opsForValue().get(anyString())).thenReturn(refreshToken);
-        when(userRepository.findById(testUserId)).thenReturn(Optional.of(testUser));
-        when(profileRepository.findByUserId(testUserId)).thenReturn(Optional.of(testProfile));
-        when(jwtTokenProvider.generateAccessToken(testUserId, testProfile.getRole()))
-                .thenReturn("new-access-token");
+
+        when(jwtTokenProvider.verify(refreshToken)).thenReturn(refreshPrincipal());
         when(jwtTokenProvider.generateRefreshToken(testUserId))
                 .thenReturn("new-refresh-token");
+        when(redisTemplate.execute(any(RedisScript.class), anyList(),
+                eq(refreshToken), eq("new-refresh-token"), anyString()))
+                .thenReturn(List.of(1L, "CANDIDATE"));
+        when(jwtTokenProvider.generateAccessToken(testUserId, testProfile.getRole()))
+                .thenReturn("new-access-token");
 
         // When
         TokenResponse response = authService.refreshToken(request);
@@ -226,10 +237,34 @@ class AuthServiceTest {
         assertThat(response.refreshToken()).isEqualTo("new-refresh-token");
         assertThat(response.userId()).isEqualTo(testUserId);
 
-        verify(jwtTokenProvider).validateRefreshToken(refreshToken);
-        verify(jwtTokenProvider).getUserIdFromRefreshToken(refreshToken);
+        verify(jwtTokenProvider).verify(refreshToken);
         verify(jwtTokenProvider).generateAccessToken(testUserId, testProfile.getRole());
         verify(jwtTokenProvider).generateRefreshToken(testUserId);
+        verifyNoInteractions(userRepository, profileRepository);
+    }
+
+    @Test
+    @DisplayName("Should load and cache role when it is missing next to the refresh token")
+    void shouldLoadRoleWhenNotCachedDuringRefresh() {
+        // Given
+        String refreshToken = "valid-refresh-token";
+        RefreshTokenRequest request = new RefreshTokenRequest(refreshToken);
+
+        when(jwtTokenProvider.verify(refreshToken)).thenReturn(refreshPrincipal());
+        when(jwtTokenProvider.generateRefreshToken(testUserId)).thenReturn("new-refresh-token");
+        when(redisTemplate.execute(any(RedisScript.class), anyList(),
+                eq(refreshToken), eq("new-refresh-token"), anyString()))
+                .thenReturn(List.of(1L));
+        when(profileRepository.findRoleByUserId(testUserId)).thenReturn(Optional.of(testProfile.getRole()));
+        when(jwtTokenProvider.generateAccessToken(testUserId, testProfile.getRole()))
+                .thenReturn("new-access-token");
+
+        // When
+        TokenResponse response = authService.refreshToken(request);
+
+        // Then
+        assertThat(response.accessToken()).isEqualTo("new-access-token");
+        verify(valueOperations).set(anyString(), eq("CANDIDATE"), anyLong(), eq(TimeUnit.MILLISECONDS));
     }
 
     @Test
@@ -238,15 +273,31 @@ class AuthServiceTest {
         // Given
         String refreshToken = "invalid-refresh-token";
         RefreshTokenRequest request = new RefreshTokenRequest(refreshToken);
-        
-        when(jwtTokenProvider.validateRefreshToken(refreshToken)).thenReturn(false);
+
+        when(jwtTokenProvider.verify(refreshToken)).thenThrow(new JwtException("bad signature"));
 
         // When & Then
         assertThatThrownBy(() -> authService.refreshToken(request))
                 .isInstanceOf(TokenInvalidException.class)
                 .hasMessageContaining("Invalid refresh token");
 
-        verify(jwtTokenProvider, never()).getUserIdFromRefreshToken(anyString());
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("Should throw TokenInvalidException when an access token is used to refresh")
+    void shouldThrowExceptionForAccessTokenUsedAsRefreshToken() {
+        // Given
+        String accessToken = "access-token";
+        RefreshTokenRequest request = new RefreshTokenRequest(accessToken);
+
+        when(jwtTokenProvider.verify(accessToken)).thenReturn(
+                new JwtPrincipal(testUserId, "CANDIDATE", "ACCESS", Instant.now().plusSeconds(60), "access-jti"));
+
+        // When & Then
+        assertThatThrownBy(() -> authService.refreshToken(request))
+                .isInstanceOf(TokenInvalidException.class)
+                .hasMessageContaining("Invalid refresh token");
     }
 
     @Test
@@ -255,10 +306,12 @@ class AuthServiceTest {
         // Given
         String refreshToken = "valid-refresh-token";
         RefreshTokenRequest request = new RefreshTokenRequest(refreshToken);
-        
-        when(jwtTokenProvider.validateRefreshToken(refreshToken)).thenReturn(true);
-        when(jwtTokenProvider.getUserIdFromRefreshToken(refreshToken)).thenReturn(testUserId);
-        when(redisTemplate.opsForValue().get(anyString())).thenReturn(null);
+
+        when(jwtTokenProvider.verify(refreshToken)).thenReturn(refreshPrincipal());
+        when(jwtTokenProvider.generateRefreshToken(testUserId)).thenReturn("new-refresh-token");
+        when(redisTemplate.execute(any(RedisScript.class), anyList(),
+                eq(refreshToken), eq("new-refresh-token"), anyString()))
+                .thenReturn(List.of(0L));
 
         // When & Then
         assertThatThrownBy(() -> authService.refreshToken(request))
@@ -272,11 +325,13 @@ class AuthServiceTest {
         // Given
         String refreshToken = "valid-refresh-token";
         RefreshTokenRequest request = new RefreshTokenRequest(refreshToken);
-        
-        when(jwtTokenProvider.validateRefreshToken(refreshToken)).thenReturn(true);
-        when(jwtTokenProvider.getUserIdFromRefreshToken(refreshToken)).thenReturn(testUserId);
-        when(redisTemplate.opsForValue().get(anyString())).thenReturn(refreshToken);
-        when(userRepository.findById(testUserId)).thenReturn(Optional.empty());
+
+        when(jwtTokenProvider.verify(refreshToken)).thenReturn(refreshPrincipal());
+        when(jwtTokenProvider.generateRefreshToken(testUserId)).thenReturn("new-refresh-token");
+        when(redisTemplate.execute(any(RedisScript.class), anyList(),
+                eq(refreshToken), eq("new-refresh-token"), anyString()))
+                .thenReturn(List.of(1L));
+        when(profileRepository.findRoleByUserId(testUserId)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> authService.refreshToken(request))
@@ -300,6 +355,25 @@ class AuthServiceTest {
         verify(redisTemplate).delete(anyString());
     }
 
+    @Test
+    @DisplayName("Should revoke the access token on logout")
+    void shouldRevokeAccessTokenOnLogout() {
+        // Given
+        String refreshToken = "refresh-token";
+        JwtPrincipal accessPrincipal = new JwtPrincipal(
+                testUserId, "CANDIDATE", "ACCESS", Instant.now().plusSeconds(60), "access-jti");
+        when(jwtTokenProvider.validateRefreshToken(refreshToken)).thenReturn(true);
+        when(jwtTokenProvider.getUserIdFromRefreshToken(refreshToken)).thenReturn(testUserId);
+        when(jwtTokenProvider.verify("access-token")).thenReturn(accessPrincipal);
+
+        // When
+        authService.logout(refreshToken, "access-token");
+
+        // Then
+        verify(redisTemplate).delete(anyString());
+        verify(tokenRevocationService).revoke(accessPrincipal);
+    }
+
     @Test
     @DisplayName("Should handle logout with invalid token gracefully")
     void shouldHandleLogoutWithInvalidTokenGracefully() {
@@ -315,5 +389,12 @@ class AuthServiceTest {
         verify(jwtTokenProvider, never()).getUserIdFromRefreshToken(anyString());
         verify(redisTemplate, never()).delete(anyString());
     }
-}
 
+    private JwtPrincipal refreshPrincipal() {
+        return new JwtPrincipal(testUserId, null, "REFRESH", Instant.now().plusSeconds(3600), "refresh-jti");
+    }
+
+    private UserCredentials testCredentials() {
+        return new UserCredentials(testUserId, testUser.getPasswordHash(), testProfile.getRole());
+    }
+}
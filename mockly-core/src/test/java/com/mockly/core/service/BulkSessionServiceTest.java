@@ -0,0 +1,170 @@
+package com.mockly.core.service;
+
+import com.mockly.core.dto.session.BulkCreateSessionsRequest;
+import com.mockly.core.dto.session.BulkCreateSessionsResponse;
+import com.mockly.core.dto.session.BulkSessionEntry;
+import com.mockly.core.dto.session.BulkSessionResult;
+import com.mockly.core.exception.ForbiddenException;
+import com.mockly.core.service.InterviewerCalendarService.Booking;
+import com.mockly.data.enums.SessionStatus;
+import com.mockly.data.projection.InterviewerProfileView;
+import com.mockly.data.repository.ProfileRepository;
+import com.mockly.data.repository.SessionBatchWriter;
+import com.mockly.data.repository.SessionRepository;
+import com.mockly.data.repository.SessionStatusCounterRepository.Transition;
+import com.mockly.data.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkSessionService Tests")
+class BulkSessionServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ProfileRepository profileRepository;
+
+    @Mock
+    private SessionRepository sessionRepository;
+
+    @Mock
+    private SessionBatchWriter sessionBatchWriter;
+
+    @Mock
+    private LiveKitService liveKitService;
+
+    @Mock
+    private InterviewerCalendarService interviewerCalendar;
+
+    @Mock
+    private SessionStatsService sessionStats;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BulkSessionService bulkSessionService;
+    private UUID scheduler;
+
+    @BeforeEach
+    void setUp() {
+        bulkSessionService = new BulkSessionService(userRepository, profileRepository, sessionRepository,
+                sessionBatchWriter, liveKitService, interviewerCalendar, sessionStats, transactionManager, 1000, 2);
+        scheduler = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should report a result per entry and insert accepted entries in chunks")
+    void shouldCreateAcceptedEntriesInChunks() {
+        // Given
+        UUID interviewer = scheduler;
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        OffsetDateTime slot = OffsetDateTime.now().plusDays(1);
+        BulkCreateSessionsRequest request = new BulkCreateSessionsRequest(List.of(
+                new BulkSessionEntry(first, interviewer, null),
+                new BulkSessionEntry(interviewer, interviewer, null),
+                new BulkSessionEntry(UUID.randomUUID(), interviewer, null),
+                new BulkSessionEntry(first, interviewer, null),
+                new BulkSessionEntry(second, interviewer, slot),
+                new BulkSessionEntry(third, interviewer, null)));
+
+        when(profileRepository.findInterviewerView(scheduler)).thenReturn(Optional.of(
+                new InterviewerProfileView(scheduler, "Grace", "Hopper", null, null, List.of())));
+        when(userRepository.findExistingIds(anyCollection())).thenReturn(List.of(interviewer, first, second, third));
+        when(sessionRepository.findCreatorsWithOpenSession(anyCollection())).thenReturn(List.of());
+        when(interviewerCalendar.findConflicts(anyList())).thenReturn(Map.of());
+        // Another node booked the slot after validation
+        when(interviewerCalendar.lockAndFindConflicts(anyList())).thenAnswer(invocation -> {
+            List<Booking> bookings = invocation.getArgument(0);
+            return bookings.stream().collect(Collectors.toMap(Booking::sessionId, b -> "Interviewer is already booked"));
+        });
+        when(liveKitService.createRoom(any(UUID.class))).thenReturn("room");
+        // The third candidate opened a session after validation
+        when(sessionBatchWriter.insertSessions(anyList()))
+                .thenReturn(new boolean[]{true})
+                .thenReturn(new boolean[]{false});
+
+        // When
+        BulkCreateSessionsResponse response = bulkSessionService.createSessions(scheduler, request);
+
+        // Then
+        assertThat(response.created()).isEqualTo(1);
+        assertThat(response.rejected()).isEqualTo(5);
+        assertThat(response.results()).extracting(BulkSessionResult::status).containsExactly(
+                BulkSessionResult.Status.CREATED,
+                BulkSessionResult.Status.REJECTED,
+                BulkSessionResult.Status.REJECTED,
+                BulkSessionResult.Status.REJECTED,
+                BulkSessionResult.Status.REJECTED,
+                BulkSessionResult.Status.REJECTED);
+        assertThat(response.results()).extracting(BulkSessionResult::error).containsExactly(
+                null,
+                "Interviewer must be a different user",
+                "User not found: " + request.sessions().get(2).candidateId(),
+                "User already has an active session",
+                "Interviewer is already booked",
+                "User already has an active session");
+        verify(sessionBatchWriter, times(2)).insertSessions(anyList());
+        verify(sessionBatchWriter).insertParticipants(argThat(participants -> participants.size() == 2));
+        verify(sessionStats).recordTransitions(List.of(new Transition(response.results().get(0).sessionId(), null, SessionStatus.SCHEDULED)));
+    }
+
+    @Test
+    @DisplayName("Should reject bulk scheduling by users who are not interviewers")
+    void shouldRejectNonInterviewers() {
+        // Given
+        when(profileRepository.findInterviewerView(scheduler)).thenReturn(Optional.empty());
+        BulkCreateSessionsRequest request = new BulkCreateSessionsRequest(
+                List.of(new BulkSessionEntry(UUID.randomUUID(), UUID.randomUUID(), null)));
+
+        // When & Then
+        assertThatThrownBy(() -> bulkSessionService.createSessions(scheduler, request))
+                .isInstanceOf(ForbiddenException.class);
+        verifyNoInteractions(userRepository, sessionBatchWriter);
+    }
+
+    @Test
+    @DisplayName("Should reject entries for interviewers other than the caller")
+    void shouldRejectEntriesForOtherInterviewers() {
+        // Given
+        UUID candidate = UUID.randomUUID();
+        UUID otherInterviewer = UUID.randomUUID();
+        BulkCreateSessionsRequest request = new BulkCreateSessionsRequest(List.of(
+                new BulkSessionEntry(candidate, otherInterviewer, OffsetDateTime.now().plusDays(1))));
+
+        when(profileRepository.findInterviewerView(scheduler)).thenReturn(Optional.of(
+                new InterviewerProfileView(scheduler, "Grace", "Hopper", null, null, List.of())));
+        when(userRepository.findExistingIds(anyCollection())).thenReturn(List.of(candidate, otherInterviewer));
+        when(sessionRepository.findCreatorsWithOpenSession(anyCollection())).thenReturn(List.of());
+        when(interviewerCalendar.findConflicts(anyList())).thenReturn(Map.of());
+
+        // When
+        BulkCreateSessionsResponse response = bulkSessionService.createSessions(scheduler, request);
+
+        // Then
+        assertThat(response.created()).isZero();
+        assertThat(response.results()).extracting(BulkSessionResult::error)
+                .containsExactly("Interviewers can only schedule their own sessions");
+        verifyNoInteractions(sessionBatchWriter, liveKitService);
+    }
+}
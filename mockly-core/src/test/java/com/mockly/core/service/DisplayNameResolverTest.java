@@ -0,0 +1,117 @@
+package com.mockly.core.service;
+
+import com.mockly.data.projection.DisplayNameView;
+import com.mockly.data.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DisplayNameResolver Tests")
+class DisplayNameResolverTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private DisplayNameResolver resolver;
+    private UUID named;
+    private UUID emailOnly;
+    private UUID unknown;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new DisplayNameResolver(userRepository, new AfterCommitBroadcaster(redisTemplate),
+                listenerContainer, 100, 600);
+        named = UUID.randomUUID();
+        emailOnly = UUID.randomUUID();
+        unknown = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should resolve many users with one query and serve repeats from the cache")
+    void shouldResolveAllWithOneQuery() {
+        // Given
+        when(userRepository.findDisplayNamesByIdIn(anyCollection())).thenReturn(List.of(
+                new DisplayNameView(named, "Ada", "Lovelace", "ada@example.com"),
+                new DisplayNameView(emailOnly, " ", null, "anon@example.com")));
+
+        // When
+        Map<UUID, String> names = resolver.resolveAll(List.of(named, emailOnly, unknown));
+        String cached = resolver.resolve(named);
+
+        // Then
+        assertThat(names).containsOnly(
+                Map.entry(named, "Ada Lovelace"),
+                Map.entry(emailOnly, "anon@example.com"),
+                Map.entry(unknown, DisplayNameResolver.UNKNOWN_USER));
+        assertThat(cached).isEqualTo("Ada Lovelace");
+        verify(userRepository).findDisplayNamesByIdIn(Set.of(named, emailOnly, unknown));
+        verifyNoMoreInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("Should reload a name after invalidation and broadcast it to other nodes")
+    void shouldReloadAfterInvalidation() {
+        // Given
+        when(userRepository.findDisplayNamesByIdIn(anyCollection()))
+                .thenReturn(List.of(new DisplayNameView(named, "Ada", null, "ada@example.com")))
+                .thenReturn(List.of(new DisplayNameView(named, "Ada", "King", "ada@example.com")));
+        resolver.resolve(named);
+
+        // When
+        resolver.invalidate(named);
+        String renamed = resolver.resolve(named);
+
+        // Then
+        assertThat(renamed).isEqualTo("Ada King");
+        verify(redisTemplate).convertAndSend(DisplayNameResolver.INVALIDATION_CHANNEL, named.toString());
+    }
+
+    @Test
+    @DisplayName("Should cache a load unless the same user was invalidated while it ran")
+    void shouldSkipCachingOnlyForInvalidatedUsers() {
+        // Given: fixed IDs that fall on different generation stripes
+        UUID renamed = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        UUID unchanged = UUID.fromString("00000000-0000-0000-0000-000000000002");
+        when(userRepository.findDisplayNamesByIdIn(anyCollection()))
+                .thenAnswer(invocation -> {
+                    resolver.onMessage(new DefaultMessage(
+                            DisplayNameResolver.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                            renamed.toString().getBytes(StandardCharsets.UTF_8)), null);
+                    return List.of(
+                            new DisplayNameView(renamed, "Ada", null, "ada@example.com"),
+                            new DisplayNameView(unchanged, "Grace", null, "grace@example.com"));
+                })
+                .thenReturn(List.of(new DisplayNameView(renamed, "Ada", "King", "ada@example.com")));
+
+        // When
+        resolver.resolveAll(List.of(renamed, unchanged));
+        Map<UUID, String> names = resolver.resolveAll(List.of(renamed, unchanged));
+
+        // Then: only the invalidated user is loaded again
+        assertThat(names).containsOnly(Map.entry(renamed, "Ada King"), Map.entry(unchanged, "Grace"));
+        verify(userRepository).findDisplayNamesByIdIn(Set.of(renamed));
+    }
+}
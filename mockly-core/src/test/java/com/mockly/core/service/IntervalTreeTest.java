@@ -0,0 +1,62 @@
+package com.mockly.core.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("IntervalTree Tests")
+class IntervalTreeTest {
+
+    @Test
+    @DisplayName("Should detect overlaps among intervals that overlap each other")
+    void shouldDetectOverlaps() {
+        // Given: a long interval hidden behind shorter ones that start later
+        IntervalTree tree = IntervalTree.of(List.of(interval(0, 100), interval(10, 20), interval(30, 40)))
+                .with(interval(200, 210));
+
+        // Then
+        assertThat(tree.overlaps(50, 60)).isTrue();
+        assertThat(tree.overlaps(100, 200)).isFalse();
+        assertThat(tree.overlaps(205, 206)).isTrue();
+        assertThat(tree.overlaps(210, 300)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should treat touching windows as one continuous stretch")
+    void shouldCoverAcrossTouchingWindows() {
+        // Given
+        IntervalTree windows = IntervalTree.of(List.of(interval(0, 50), interval(50, 100), interval(120, 150)));
+
+        // Then
+        assertThat(windows.covers(40, 60)).isTrue();
+        assertThat(windows.covers(90, 130)).isFalse();
+        assertThat(windows.covers(120, 150)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should list free stretches of availability long enough for a session")
+    void shouldFindFreeSlots() {
+        // Given
+        IntervalTree availability = IntervalTree.of(List.of(interval(0, 60), interval(50, 120), interval(200, 240)));
+        UUID booking = UUID.randomUUID();
+        IntervalTree bookings = IntervalTree.of(List.of(
+                new IntervalTree.Interval(30, 45, booking), interval(100, 110), interval(210, 250)));
+
+        // When
+        List<long[]> free = availability.freeWithin(bookings, 10, 300, 10, 10);
+        List<long[]> afterCancel = availability.freeWithin(bookings.without(booking), 10, 300, 10, 10);
+
+        // Then
+        assertThat(free).containsExactly(
+                new long[]{10, 30}, new long[]{45, 100}, new long[]{110, 120}, new long[]{200, 210});
+        assertThat(afterCancel).containsExactly(new long[]{10, 100}, new long[]{110, 120}, new long[]{200, 210});
+    }
+
+    private static IntervalTree.Interval interval(long start, long end) {
+        return new IntervalTree.Interval(start, end, UUID.randomUUID());
+    }
+}
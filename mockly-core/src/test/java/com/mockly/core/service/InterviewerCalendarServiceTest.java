@@ -0,0 +1,141 @@
+package com.mockly.core.service;
+
+import com.mockly.core.dto.availability.FreeSlotResponse;
+import com.mockly.core.exception.BadRequestException;
+import com.mockly.data.entity.InterviewerAvailability;
+import com.mockly.data.entity.SessionParticipant;
+import com.mockly.data.enums.ParticipantRole;
+import com.mockly.data.projection.BookedSlotView;
+import com.mockly.data.repository.InterviewerAvailabilityRepository;
+import com.mockly.data.repository.ProfileRepository;
+import com.mockly.data.repository.SessionParticipantRepository;
+import com.mockly.data.repository.SessionRepository;
+import com.mockly.data.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InterviewerCalendarService Tests")
+class InterviewerCalendarServiceTest {
+
+    @Mock
+    private InterviewerAvailabilityRepository availabilityRepository;
+
+    @Mock
+    private SessionRepository sessionRepository;
+
+    @Mock
+    private SessionParticipantRepository participantRepository;
+
+    @Mock
+    private ProfileRepository profileRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private InterviewerCalendarService calendarService;
+    private UUID interviewerId;
+    private UUID sessionId;
+    private OffsetDateTime tomorrow;
+
+    @BeforeEach
+    void setUp() {
+        calendarService = new InterviewerCalendarService(availabilityRepository, sessionRepository,
+                participantRepository, profileRepository, userRepository,
+                new AfterCommitBroadcaster(redisTemplate), listenerContainer, 60);
+        interviewerId = UUID.randomUUID();
+        sessionId = UUID.randomUUID();
+        tomorrow = OffsetDateTime.now(ZoneOffset.UTC).plusDays(1).truncatedTo(ChronoUnit.HOURS);
+    }
+
+    @Test
+    @DisplayName("Should decide double booking from the database, not from a stale local booking")
+    void shouldRecheckLocalBookingsAgainstDatabase() {
+        // Given
+        calendarService.onSessionBooked(sessionId, interviewerId, tomorrow);
+        when(sessionRepository.findInterviewerBookedSlots(eq(interviewerId), any()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(new BookedSlotView(sessionId, interviewerId, tomorrow, null)));
+
+        // When & Then
+        // The session was closed on another node and this node missed the announcement
+        calendarService.checkBookable(interviewerId, tomorrow);
+        assertThatThrownBy(() -> calendarService.checkBookable(interviewerId, tomorrow))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Interviewer is already booked at this time");
+        verify(userRepository, times(2)).lockById(interviewerId);
+    }
+
+    @Test
+    @DisplayName("Should look up the interviewer of an unknown closed session and announce it")
+    void shouldAnnounceClosedSessionsOfUnknownOwner() {
+        // Given
+        when(participantRepository.findBySessionIdInAndRoleInSession(List.of(sessionId), ParticipantRole.INTERVIEWER))
+                .thenReturn(List.of(SessionParticipant.builder()
+                        .sessionId(sessionId)
+                        .userId(interviewerId)
+                        .roleInSession(ParticipantRole.INTERVIEWER)
+                        .build()));
+
+        // When
+        calendarService.onSessionClosed(sessionId);
+
+        // Then
+        verify(redisTemplate).convertAndSend(eq(InterviewerCalendarService.UPDATE_CHANNEL),
+                endsWith(":" + interviewerId));
+    }
+
+    @Test
+    @DisplayName("Should move a booking to the time the session actually started")
+    void shouldMoveBookingWhenSessionStarts() {
+        // Given
+        when(availabilityRepository.findByEndsAtAfter(any())).thenReturn(List.of(InterviewerAvailability.builder()
+                .id(UUID.randomUUID())
+                .interviewerId(interviewerId)
+                .startsAt(tomorrow)
+                .endsAt(tomorrow.plusHours(2))
+                .build()));
+        when(sessionRepository.findBookedSlotsStartingFrom(any()))
+                .thenReturn(List.of(new BookedSlotView(sessionId, interviewerId, tomorrow, null)));
+        calendarService.rebuild();
+        assertThat(freeSlotStarts()).containsExactly(tomorrow.plusHours(1));
+
+        // When
+        calendarService.onSessionStarted(sessionId, tomorrow.plusHours(1));
+
+        // Then
+        assertThat(freeSlotStarts()).containsExactly(tomorrow);
+        verifyNoInteractions(participantRepository);
+    }
+
+    private List<OffsetDateTime> freeSlotStarts() {
+        return calendarService.findFreeSlots(interviewerId, tomorrow, tomorrow.plusHours(2), 60, 10)
+                .slots()
+                .stream()
+                .map(FreeSlotResponse::startsAt)
+                .toList();
+    }
+}
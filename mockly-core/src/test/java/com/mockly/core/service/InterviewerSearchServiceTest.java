@@ -0,0 +1,81 @@
+package com.mockly.core.service;
+
+import com.mockly.core.dto.user.InterviewerMatchResponse;
+import com.mockly.data.entity.Profile;
+import com.mockly.data.projection.InterviewerProfileView;
+import com.mockly.data.repository.ProfileRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InterviewerSearchService Tests")
+class InterviewerSearchServiceTest {
+
+    @Mock
+    private ProfileRepository profileRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private InterviewerSearchService searchService;
+    private UUID loaded;
+    private UUID registered;
+
+    @BeforeEach
+    void setUp() {
+        searchService = new InterviewerSearchService(profileRepository, new AfterCommitBroadcaster(redisTemplate),
+                listenerContainer);
+        loaded = UUID.randomUUID();
+        registered = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should keep local and remote changes applied while a rebuild is loading")
+    void shouldReapplyChangesMadeDuringRebuild() {
+        // Given
+        Profile profile = Profile.builder()
+                .userId(registered)
+                .role(Profile.ProfileRole.INTERVIEWER)
+                .name("Grace")
+                .skills(List.of("java"))
+                .build();
+        when(profileRepository.findInterviewersAfter(any(), any())).thenAnswer(invocation -> {
+            // A new interviewer registers here, and another node demotes the loaded one
+            searchService.onProfileChanged(profile);
+            searchService.onMessage(new DefaultMessage(
+                    InterviewerSearchService.UPDATE_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                    ("other-node:" + loaded).getBytes(StandardCharsets.UTF_8)), null);
+            return List.of(new InterviewerProfileView(loaded, "Ada", null, null, null, List.of("java")));
+        });
+        when(profileRepository.findInterviewerView(loaded)).thenReturn(Optional.empty());
+        when(profileRepository.findInterviewerView(registered)).thenReturn(Optional.of(
+                new InterviewerProfileView(registered, "Grace", null, null, null, List.of("java"))));
+
+        // When
+        searchService.rebuild();
+
+        // Then
+        assertThat(searchService.search(List.of("java"), null, 10).interviewers())
+                .extracting(InterviewerMatchResponse::id)
+                .containsExactly(registered);
+    }
+}
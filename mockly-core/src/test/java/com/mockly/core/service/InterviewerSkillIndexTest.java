@@ -0,0 +1,81 @@
+package com.mockly.core.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("InterviewerSkillIndex Tests")
+class InterviewerSkillIndexTest {
+
+    private InterviewerSkillIndex index;
+    private InterviewerSkillIndex.Document javaOnly;
+    private InterviewerSkillIndex.Document javaSpring;
+    private InterviewerSkillIndex.Document javaSpringSql;
+
+    @BeforeEach
+    void setUp() {
+        javaOnly = document("Ann", "Junior", "Java");
+        javaSpring = document("Bob", "Senior", "java", "Spring");
+        javaSpringSql = document("Cid", "Senior", "Java", "Spring", "SQL");
+
+        index = new InterviewerSkillIndex();
+        index.replaceAll(List.of(javaOnly, javaSpring, javaSpringSql));
+    }
+
+    @Test
+    @DisplayName("Should rank interviewers by the number of requested skills they have")
+    void shouldRankBySkillOverlap() {
+        // When
+        InterviewerSkillIndex.Result result = index.search(List.of("SQL", "spring", "java"), null, 10);
+
+        // Then
+        assertThat(result.total()).isEqualTo(3);
+        assertThat(result.hits())
+                .extracting(hit -> hit.document().name(), InterviewerSkillIndex.Hit::matchedSkills)
+                .containsExactly(
+                        tuple("Cid", 3),
+                        tuple("Bob", 2),
+                        tuple("Ann", 1));
+    }
+
+    @Test
+    @DisplayName("Should filter by level and respect the limit")
+    void shouldFilterByLevelAndLimit() {
+        // When
+        InterviewerSkillIndex.Result result = index.search(List.of("java"), "senior", 1);
+
+        // Then
+        assertThat(result.total()).isEqualTo(2);
+        assertThat(result.hits()).hasSize(1);
+        assertThat(result.hits().get(0).document().level()).isEqualTo("Senior");
+        assertThat(index.search(List.of("java"), "Principal", 10).hits()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should re-index updated profiles and drop removed ones")
+    void shouldReindexOnUpsertAndRemove() {
+        // Given
+        index.upsert(new InterviewerSkillIndex.Document(
+                javaOnly.userId(), "Ann", "Ivanova", null, "Middle", List.of("Kotlin")));
+        index.remove(javaSpringSql.userId());
+
+        // When
+        InterviewerSkillIndex.Result java = index.search(List.of("java"), null, 10);
+        InterviewerSkillIndex.Result kotlin = index.search(List.of("kotlin"), "middle", 10);
+
+        // Then
+        assertThat(java.hits()).extracting(hit -> hit.document().name()).containsExactly("Bob");
+        assertThat(kotlin.hits()).extracting(hit -> hit.document().surname()).containsExactly("Ivanova");
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    private static InterviewerSkillIndex.Document document(String name, String level, String... skills) {
+        return new InterviewerSkillIndex.Document(UUID.randomUUID(), name, null, null, level, List.of(skills));
+    }
+}
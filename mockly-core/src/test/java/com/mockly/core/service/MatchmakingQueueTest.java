@@ -0,0 +1,124 @@
+package com.mockly.core.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MatchmakingQueue Tests")
+class MatchmakingQueueTest {
+
+    private static final Duration RELAX_AFTER = Duration.ofSeconds(30);
+
+    private MatchmakingQueue queue;
+    private Instant now;
+    private List<UUID[]> pairs;
+
+    @BeforeEach
+    void setUp() {
+        queue = new MatchmakingQueue();
+        now = Instant.parse("2026-01-01T10:00:00Z");
+        pairs = new ArrayList<>();
+    }
+
+    @Test
+    @DisplayName("Should pair candidates with interviewers sharing a skill in arrival order")
+    void shouldPairBySkillInArrivalOrder() {
+        // Given
+        UUID javaInterviewer = enqueue(MatchmakingQueue.Side.INTERVIEWER, "Java", "Spring");
+        UUID goInterviewer = enqueue(MatchmakingQueue.Side.INTERVIEWER, "Go");
+        UUID firstJava = enqueue(MatchmakingQueue.Side.CANDIDATE, "java");
+        UUID secondJava = enqueue(MatchmakingQueue.Side.CANDIDATE, "JAVA");
+
+        // When
+        int matched = queue.match(now, RELAX_AFTER, 10, recording(MatchmakingQueue.Outcome.MATCHED));
+
+        // Then
+        assertThat(matched).isEqualTo(1);
+        assertThat(pairs).containsExactly(new UUID[]{firstJava, javaInterviewer});
+        assertThat(queue.find(secondJava)).isNotNull();
+        assertThat(queue.find(goInterviewer)).isNotNull();
+        assertThat(queue.find(firstJava)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should fall back to any interviewer once a candidate has waited long enough")
+    void shouldRelaxSkillsAfterWaiting() {
+        // Given
+        UUID interviewer = enqueue(MatchmakingQueue.Side.INTERVIEWER, "Go");
+        UUID candidate = enqueue(MatchmakingQueue.Side.CANDIDATE, "Java");
+
+        // When
+        int early = queue.match(now, RELAX_AFTER, 10, recording(MatchmakingQueue.Outcome.MATCHED));
+        int late = queue.match(now.plus(RELAX_AFTER), RELAX_AFTER, 10, recording(MatchmakingQueue.Outcome.MATCHED));
+
+        // Then
+        assertThat(early).isZero();
+        assertThat(late).isEqualTo(1);
+        assertThat(pairs).containsExactly(new UUID[]{candidate, interviewer});
+    }
+
+    @Test
+    @DisplayName("Should keep the interviewer waiting when a candidate is rejected")
+    void shouldKeepInterviewerWhenCandidateRejected() {
+        // Given
+        UUID interviewer = enqueue(MatchmakingQueue.Side.INTERVIEWER, "Java");
+        UUID rejected = enqueue(MatchmakingQueue.Side.CANDIDATE, "Java");
+        UUID accepted = enqueue(MatchmakingQueue.Side.CANDIDATE, "Java");
+
+        // When
+        int matched = queue.match(now, RELAX_AFTER, 10, (candidate, offered) -> {
+            pairs.add(new UUID[]{candidate.userId(), offered.userId()});
+            return candidate.userId().equals(rejected)
+                    ? MatchmakingQueue.Outcome.CANDIDATE_REJECTED
+                    : MatchmakingQueue.Outcome.MATCHED;
+        });
+
+        // Then
+        assertThat(matched).isEqualTo(1);
+        assertThat(pairs).containsExactly(new UUID[]{rejected, interviewer}, new UUID[]{accepted, interviewer});
+        assertThat(queue.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should skip cancelled users and expire old tickets")
+    void shouldSkipCancelledAndExpireOld() {
+        // Given
+        UUID cancelled = enqueue(MatchmakingQueue.Side.CANDIDATE, "Java");
+        enqueue(MatchmakingQueue.Side.INTERVIEWER, "Java");
+        now = now.plusSeconds(60);
+        UUID fresh = enqueue(MatchmakingQueue.Side.CANDIDATE, "Go");
+
+        // When
+        boolean left = queue.cancel(cancelled);
+        List<MatchmakingQueue.Ticket> expired = queue.expire(now.minusSeconds(30));
+        int matched = queue.match(now, RELAX_AFTER, 10, recording(MatchmakingQueue.Outcome.MATCHED));
+
+        // Then
+        assertThat(left).isTrue();
+        assertThat(expired).extracting(MatchmakingQueue.Ticket::side).containsExactly(MatchmakingQueue.Side.INTERVIEWER);
+        assertThat(matched).isZero();
+        assertThat(queue.find(fresh)).isNotNull();
+        assertThat(queue.enqueue(fresh, MatchmakingQueue.Side.CANDIDATE, List.of(), now)).isNull();
+    }
+
+    private UUID enqueue(MatchmakingQueue.Side side, String... skills) {
+        UUID userId = UUID.randomUUID();
+        queue.enqueue(userId, side, List.of(skills), now);
+        return userId;
+    }
+
+    private MatchmakingQueue.MatchHandler recording(MatchmakingQueue.Outcome outcome) {
+        return (candidate, interviewer) -> {
+            pairs.add(new UUID[]{candidate.userId(), interviewer.userId()});
+            return outcome;
+        };
+    }
+}
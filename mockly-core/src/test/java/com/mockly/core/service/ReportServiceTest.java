@@ -0,0 +1,149 @@
+package com.mockly.core.service;
+
+import com.mockly.core.dto.ml.MLProcessResponse;
+import com.mockly.core.dto.report.ReportResponse;
+import com.mockly.data.entity.Artifact;
+import com.mockly.data.entity.Report;
+import com.mockly.data.enums.ArtifactType;
+import com.mockly.data.repository.ArtifactRepository;
+import com.mockly.data.repository.ReportRepository;
+import com.mockly.data.repository.SessionRepository;
+import com.mockly.data.repository.TranscriptRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReportService Tests")
+class ReportServiceTest {
+
+    @Mock
+    private ReportRepository reportRepository;
+
+    @Mock
+    private SessionRepository sessionRepository;
+
+    @Mock
+    private ArtifactRepository artifactRepository;
+
+    @Mock
+    private TranscriptRepository transcriptRepository;
+
+    @Mock
+    private MLServiceClient mlServiceClient;
+
+    @Mock
+    private MinIOService minIOService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ReportService reportService;
+    private UUID sessionId;
+    private UUID artifactId;
+
+    @BeforeEach
+    void setUp() {
+        reportService = new ReportService(reportRepository, sessionRepository, artifactRepository,
+                transcriptRepository, mlServiceClient, minIOService, eventPublisher,
+                new OptimisticLockRetry(transactionManager, 3, 0));
+        sessionId = UUID.randomUUID();
+        artifactId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should not restart processing of a report that is already READY")
+    void shouldNotRestartReadyReport() {
+        // Given
+        when(reportRepository.findBySessionId(sessionId)).thenAnswer(invocation -> Optional.of(report(Report.ReportStatus.READY)));
+        when(sessionRepository.existsById(sessionId)).thenReturn(true);
+
+        // When
+        reportService.processReportAsync(sessionId, artifactId);
+        ReportResponse response = reportService.generateReport(sessionId);
+
+        // Then
+        assertThat(response.status()).isEqualTo(Report.ReportStatus.READY);
+        verify(reportRepository, never()).saveAndFlush(any());
+        verifyNoInteractions(mlServiceClient, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should not let a late failure overwrite a report another writer made READY")
+    void shouldNotFailReadyReportOnRetry() {
+        // Given: the failure loses a version race to a writer that completed the report
+        Report ready = report(Report.ReportStatus.READY);
+        when(reportRepository.findBySessionId(sessionId)).thenReturn(
+                Optional.of(report(Report.ReportStatus.PENDING)),
+                Optional.of(report(Report.ReportStatus.PROCESSING)),
+                Optional.of(ready));
+        when(reportRepository.saveAndFlush(any()))
+                .thenAnswer(invocation -> invocation.getArgument(0))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Report.class, sessionId));
+        when(artifactRepository.findById(artifactId)).thenReturn(Optional.of(artifact()));
+        when(mlServiceClient.process(any())).thenThrow(new IllegalStateException("ML service unavailable"));
+
+        // When
+        reportService.processReportAsync(sessionId, artifactId);
+
+        // Then
+        verify(reportRepository, times(2)).saveAndFlush(any());
+        assertThat(ready.getStatus()).isEqualTo(Report.ReportStatus.READY);
+        assertThat(ready.getErrorMessage()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should discard ML results when the report is no longer PROCESSING")
+    void shouldNotCompleteReportThatMovedOn() {
+        // Given
+        when(reportRepository.findBySessionId(sessionId)).thenReturn(
+                Optional.of(report(Report.ReportStatus.PENDING)),
+                Optional.of(report(Report.ReportStatus.FAILED)));
+        when(reportRepository.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(artifactRepository.findById(artifactId)).thenReturn(Optional.of(artifact()));
+        when(mlServiceClient.process(any())).thenReturn(
+                new MLProcessResponse(Map.of(), "summary", "recommendations", Map.of("text", "hello")));
+
+        // When
+        reportService.processReportAsync(sessionId, artifactId);
+
+        // Then
+        verify(reportRepository, times(1)).saveAndFlush(argThat(r -> r.getStatus() == Report.ReportStatus.PROCESSING));
+        verifyNoInteractions(transcriptRepository, eventPublisher);
+    }
+
+    private Report report(Report.ReportStatus status) {
+        return Report.builder()
+                .id(UUID.randomUUID())
+                .sessionId(sessionId)
+                .status(status)
+                .version(1L)
+                .build();
+    }
+
+    private Artifact artifact() {
+        return Artifact.builder()
+                .id(artifactId)
+                .sessionId(sessionId)
+                .type(ArtifactType.AUDIO_MIXED)
+                .storageUrl("sessions/" + sessionId + "/audio.mp3")
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package com.mockly.core.service;
+
+import com.mockly.core.exception.BadRequestException;
+import com.mockly.data.entity.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SessionCursor Tests")
+class SessionCursorTest {
+
+    @Test
+    @DisplayName("Should round-trip created_at at microsecond precision and id")
+    void shouldRoundTrip() {
+        // Given
+        Session session = Session.builder()
+                .id(UUID.randomUUID())
+                .createdAt(OffsetDateTime.of(2024, 5, 1, 12, 30, 15, 123_456_000, ZoneOffset.ofHours(3)))
+                .build();
+
+        // When
+        SessionCursor decoded = SessionCursor.decode(SessionCursor.of(session).encode());
+
+        // Then
+        assertThat(decoded.id()).isEqualTo(session.getId());
+        assertThat(decoded.createdAt().toInstant()).isEqualTo(session.getCreatedAt().toInstant());
+    }
+
+    @Test
+    @DisplayName("Should reject malformed cursor with BadRequestException")
+    void shouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> SessionCursor.decode("not-a-cursor"))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> SessionCursor.decode("%%%"))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
@@ -0,0 +1,110 @@
+package com.mockly.core.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mockly.core.exception.ForbiddenException;
+import com.mockly.data.projection.SessionExportRow;
+import com.mockly.data.repository.SessionExportRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SessionExportService Tests")
+class SessionExportServiceTest {
+
+    @Mock
+    private SessionExportRepository exportRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SessionExportService exportService;
+    private UUID userId;
+    private SessionExportRow row;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        exportService = new SessionExportService(exportRepository, objectMapper, transactionManager, 500, List.of());
+        row = new SessionExportRow(UUID.randomUUID(), userId, "ENDED",
+                OffsetDateTime.of(2024, 5, 1, 10, 0, 0, 0, ZoneOffset.UTC), null,
+                OffsetDateTime.of(2024, 4, 30, 9, 0, 0, 0, ZoneOffset.UTC),
+                userId, UUID.randomUUID(), 2, "READY",
+                "[{\"userId\": \"" + userId + "\", \"role\": \"CANDIDATE\"}]", null);
+    }
+
+    @Test
+    @DisplayName("Should stream the caller's sessions as one JSON object per line or as CSV")
+    void shouldStreamRows() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            Consumer<SessionExportRow> consumer = invocation.getArgument(3);
+            consumer.accept(row);
+            consumer.accept(row);
+            return null;
+        }).when(exportRepository).stream(eq(userId), anyBoolean(), eq(500), any());
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+
+        // When
+        long ndjsonCount = exportService.export(userId, SessionExportService.Scope.MINE, SessionExportService.Format.NDJSON, ndjson);
+        long csvCount = exportService.export(userId, SessionExportService.Scope.MINE, SessionExportService.Format.CSV, csv);
+
+        // Then
+        assertThat(ndjsonCount).isEqualTo(2);
+        String[] lines = ndjson.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("id").asText()).isEqualTo(row.id().toString());
+        assertThat(first.get("endsAt").isNull()).isTrue();
+        assertThat(first.get("artifactCount").asLong()).isEqualTo(2);
+        assertThat(first.get("participants").get(0).get("role").asText()).isEqualTo("CANDIDATE");
+        assertThat(first.get("artifacts").isArray()).isTrue();
+
+        assertThat(csvCount).isEqualTo(2);
+        assertThat(csv.toString(StandardCharsets.UTF_8).split("\r\n")).containsExactly(
+                String.join(",", SessionExportWriter.CSV_COLUMNS),
+                row.id() + "," + userId + ",ENDED,2024-05-01T10:00Z,,2024-04-30T09:00Z," + userId + ","
+                        + row.interviewerId() + ",2,READY",
+                row.id() + "," + userId + ",ENDED,2024-05-01T10:00Z,,2024-04-30T09:00Z," + userId + ","
+                        + row.interviewerId() + ",2,READY");
+        verify(exportRepository).stream(eq(userId), eq(true), eq(500), any());
+        verify(exportRepository).stream(eq(userId), eq(false), eq(500), any());
+    }
+
+    @Test
+    @DisplayName("Should only let configured users export all sessions")
+    void shouldRestrictFullExport() throws Exception {
+        // Given
+        SessionExportService allowed = new SessionExportService(
+                exportRepository, objectMapper, transactionManager, 500, List.of(userId));
+
+        // When & Then
+        assertThatThrownBy(() -> exportService.export(userId, SessionExportService.Scope.ALL,
+                SessionExportService.Format.CSV, new ByteArrayOutputStream()))
+                .isInstanceOf(ForbiddenException.class);
+        verifyNoInteractions(exportRepository);
+
+        allowed.export(userId, SessionExportService.Scope.ALL, SessionExportService.Format.CSV, new ByteArrayOutputStream());
+        verify(exportRepository).stream(isNull(), eq(false), eq(500), any());
+    }
+}
@@ -0,0 +1,205 @@
+package com.mockly.core.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.mockly.core.dto.session.SessionResponse;
+import com.mockly.data.enums.SessionStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SessionResponseCache Tests")
+class SessionResponseCacheTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private SessionResponseCache cache;
+    private UUID sessionId;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        cache = new SessionResponseCache(redisTemplate, listenerContainer, new AfterCommitBroadcaster(redisTemplate),
+                objectMapper, true, 100, 30, 300);
+        sessionId = UUID.randomUUID();
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reads from the local cache and write through to Redis")
+    void shouldServeRepeatedReadsLocally() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList(null, null));
+
+        // When
+        SessionResponse first = cache.get(sessionId, () -> {
+            loads.incrementAndGet();
+            return response(SessionStatus.ACTIVE);
+        });
+        SessionResponse second = cache.get(sessionId, () -> {
+            loads.incrementAndGet();
+            return response(SessionStatus.ENDED);
+        });
+
+        // Then
+        assertThat(loads).hasValue(1);
+        assertThat(second).isEqualTo(first);
+        verify(redisTemplate).execute(eq(SessionResponseCache.WRITE_IF_CURRENT_SCRIPT), eq(keys()),
+                eq(""), anyString(), eq("300000"));
+    }
+
+    @Test
+    @DisplayName("Should collapse concurrent misses into a single load")
+    void shouldCollapseConcurrentMisses() throws Exception {
+        // Given
+        int callers = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        try {
+            // When
+            Future<SessionResponse> owner = executor.submit(() -> cache.get(sessionId, () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return response(SessionStatus.ACTIVE);
+            }));
+            loading.await(5, TimeUnit.SECONDS);
+            List<Future<SessionResponse>> waiters = new ArrayList<>();
+            for (int i = 1; i < callers; i++) {
+                waiters.add(executor.submit(() -> cache.get(sessionId, () -> {
+                    loads.incrementAndGet();
+                    return response(SessionStatus.ENDED);
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            // Then
+            assertThat(owner.get(5, TimeUnit.SECONDS).status()).isEqualTo(SessionStatus.ACTIVE);
+            for (Future<SessionResponse> waiter : waiters) {
+                assertThat(waiter.get(5, TimeUnit.SECONDS).status()).isEqualTo(SessionStatus.ACTIVE);
+            }
+            assertThat(loads).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should drop local and Redis entries and broadcast on evict")
+    void shouldEvictAndBroadcast() {
+        // Given
+        cache.get(sessionId, () -> response(SessionStatus.SCHEDULED));
+
+        // When
+        cache.evict(sessionId);
+        SessionResponse reloaded = cache.get(sessionId, () -> response(SessionStatus.ACTIVE));
+
+        // Then
+        assertThat(reloaded.status()).isEqualTo(SessionStatus.ACTIVE);
+        verify(redisTemplate).execute(SessionResponseCache.EVICT_SCRIPT, keys(), "600000");
+        verify(redisTemplate).convertAndSend(SessionResponseCache.INVALIDATION_CHANNEL, sessionId.toString());
+    }
+
+    @Test
+    @DisplayName("Should not cache a load that raced with an eviction on another node")
+    void shouldNotCacheLoadRacingRemoteEviction() {
+        // Given: another node evicted (generation 3 -> 4) while this node was loading
+        AtomicInteger loads = new AtomicInteger();
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList(null, "3"));
+        when(redisTemplate.execute(eq(SessionResponseCache.WRITE_IF_CURRENT_SCRIPT), eq(keys()), any(Object[].class)))
+                .thenReturn(0L);
+
+        // When
+        cache.get(sessionId, () -> {
+            loads.incrementAndGet();
+            return response(SessionStatus.SCHEDULED);
+        });
+        SessionResponse reloaded = cache.get(sessionId, () -> {
+            loads.incrementAndGet();
+            return response(SessionStatus.ACTIVE);
+        });
+
+        // Then
+        assertThat(loads).hasValue(2);
+        assertThat(reloaded.status()).isEqualTo(SessionStatus.ACTIVE);
+        verify(redisTemplate, times(2)).execute(eq(SessionResponseCache.WRITE_IF_CURRENT_SCRIPT), eq(keys()),
+                eq("3"), anyString(), eq("300000"));
+    }
+
+    @Test
+    @DisplayName("Should keep caching a session while other sessions are invalidated")
+    void shouldIgnoreInvalidationsOfOtherSessions() {
+        // Given: fixed IDs that fall on different generation stripes
+        sessionId = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        UUID otherSessionId = UUID.fromString("00000000-0000-0000-0000-000000000002");
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        cache.get(sessionId, () -> {
+            loads.incrementAndGet();
+            cache.onMessage(new DefaultMessage(SessionResponseCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                    otherSessionId.toString().getBytes(StandardCharsets.UTF_8)), null);
+            return response(SessionStatus.ACTIVE);
+        });
+        cache.get(sessionId, () -> {
+            loads.incrementAndGet();
+            return response(SessionStatus.ENDED);
+        });
+
+        // Then
+        assertThat(loads).hasValue(1);
+    }
+
+    private List<String> keys() {
+        return List.of("session_response:" + sessionId, "session_response_gen:" + sessionId);
+    }
+
+    private SessionResponse response(SessionStatus status) {
+        return new SessionResponse(sessionId, UUID.randomUUID(), "Test User", status,
+                null, null, "livekit", "session-" + sessionId, null, null, null, List.of(), List.of());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.mockly.core.service;
+
+import com.mockly.core.dto.session.CreateSessionRequest;
+import com.mockly.core.dto.session.SessionListResponse;
+import com.mockly.core.dto.session.SessionResponse;
+import com.mockly.core.exception.BadRequestException;
+import com.mockly.core.exception.ResourceNotFoundException;
+import com.mockly.core.mapper.SessionMapper;
+import com.mockly.data.entity.Session;
+import com.mockly.data.entity.User;
+import com.mockly.data.enums.ParticipantRole;
+import com.mockly.data.enums.SessionStatus;
+import com.mockly.data.repository.SessionParticipantRepository;
+import com.mockly.data.repository.SessionRepository;
+import com.mockly.data.repository.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SessionService Tests")
+class SessionServiceTest {
+
+    @Mock
+    private SessionRepository sessionRepository;
+
+    @Mock
+    private SessionParticipantRepository participantRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private SessionMapper sessionMapper;
+
+    @Mock
+    private LiveKitService liveKitService;
+
+    @Mock
+    private SessionResponseCache sessionResponseCache;
+
+    @Mock
+    private InterviewerCalendarService interviewerCalendar;
+
+    @Mock
+    private SessionStatsService sessionStats;
+
+    @InjectMocks
+    private SessionService sessionService;
+
+    private User candidate;
+    private User interviewer;
+
+    @BeforeEach
+    void setUp() {
+        candidate = User.builder().id(UUID.randomUUID()).email("candidate@example.com").build();
+        interviewer = User.builder().id(UUID.randomUUID()).email("interviewer@example.com").build();
+    }
+
+    @Test
+    @DisplayName("Should create session with room ID and participants in one save and no reload")
+    void shouldCreateSessionWithoutReload() {
+        // Given
+        CreateSessionRequest request = new CreateSessionRequest(interviewer.getId(), null);
+        when(userRepository.findAllWithProfileByIdIn(anyCollection())).thenReturn(List.of(candidate, interviewer));
+        when(liveKitService.createRoom(any(UUID.class))).thenAnswer(invocation -> "session-" + invocation.getArgument(0));
+        when(sessionRepository.saveAndFlush(any(Session.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        SessionResponse mapped = mock(SessionResponse.class);
+        when(sessionMapper.toResponse(any(Session.class))).thenReturn(mapped);
+
+        // When
+        SessionResponse response = sessionService.createSession(candidate.getId(), request);
+
+        // Then
+        assertThat(response).isSameAs(mapped);
+
+        ArgumentCaptor<Session> captor = ArgumentCaptor.forClass(Session.class);
+        verify(sessionRepository).saveAndFlush(captor.capture());
+        Session saved = captor.getValue();
+        assertThat(saved.getId()).isNotNull();
+        assertThat(saved.isNew()).isTrue();
+        assertThat(saved.getRoomId()).isEqualTo("session-" + saved.getId());
+        assertThat(saved.getStatus()).isEqualTo(SessionStatus.SCHEDULED);
+        assertThat(saved.getParticipants())
+                .extracting("userId", "roleInSession", "sessionId")
+                .containsExactly(
+                        tuple(candidate.getId(), ParticipantRole.CANDIDATE, saved.getId()),
+                        tuple(interviewer.getId(), ParticipantRole.INTERVIEWER, saved.getId()));
+
+        verify(sessionStats).recordTransition(saved.getId(), null, SessionStatus.SCHEDULED);
+        verifyNoInteractions(participantRepository);
+        verify(sessionRepository, never()).findById(any());
+        verify(sessionRepository, never()).findDetailedById(any());
+    }
+
+    @Test
+    @DisplayName("Should throw ResourceNotFoundException when interviewer does not exist")
+    void shouldRejectUnknownInterviewer() {
+        // Given
+        CreateSessionRequest request = new CreateSessionRequest(interviewer.getId(), null);
+        when(userRepository.findAllWithProfileByIdIn(anyCollection())).thenReturn(List.of(candidate));
+
+        // When & Then
+        assertThatThrownBy(() -> sessionService.createSession(candidate.getId(), request))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("Interviewer not found");
+
+        verify(sessionRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Should map open-session index violation to BadRequestException")
+    void shouldRejectSecondOpenSession() {
+        // Given
+        CreateSessionRequest request = new CreateSessionRequest(interviewer.getId(), null);
+        when(userRepository.findAllWithProfileByIdIn(anyCollection())).thenReturn(List.of(candidate, interviewer));
+        when(liveKitService.createRoom(any(UUID.class))).thenReturn("session-room");
+        ConstraintViolationException violation = new ConstraintViolationException(
+                "duplicate key", new SQLException("duplicate key", "23505"), Session.OPEN_SESSION_PER_CREATOR_INDEX);
+        when(sessionRepository.saveAndFlush(any(Session.class)))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement", violation));
+
+        // When & Then
+        assertThatThrownBy(() -> sessionService.createSession(candidate.getId(), request))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("already has an active session");
+
+        verifyNoInteractions(sessionMapper, sessionStats);
+    }
+
+    @Test
+    @DisplayName("Should reject creating a session with yourself as interviewer")
+    void shouldRejectSelfInterview() {
+        // Given
+        CreateSessionRequest request = new CreateSessionRequest(candidate.getId(), null);
+
+        // When & Then
+        assertThatThrownBy(() -> sessionService.createSession(candidate.getId(), request))
+                .isInstanceOf(BadRequestException.class);
+
+        verifyNoInteractions(userRepository, sessionRepository);
+    }
+
+    @Test
+    @DisplayName("Should check a scheduled start against the interviewer's calendar before saving")
+    void shouldRejectScheduledSessionWhenInterviewerIsBooked() {
+        // Given
+        OffsetDateTime scheduledAt = OffsetDateTime.now().plusDays(1);
+        CreateSessionRequest request = new CreateSessionRequest(interviewer.getId(), scheduledAt);
+        when(userRepository.findAllWithProfileByIdIn(anyCollection())).thenReturn(List.of(candidate, interviewer));
+        doThrow(new BadRequestException("Interviewer is already booked at this time"))
+                .when(interviewerCalendar).checkBookable(interviewer.getId(), scheduledAt);
+
+        // When & Then
+        assertThatThrownBy(() -> sessionService.createSession(candidate.getId(), request))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("already booked");
+        verify(sessionRepository, never()).saveAndFlush(any());
+        verify(interviewerCalendar, never()).onSessionBooked(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should count the total only for offset pages")
+    void shouldSkipCountOnCursorPages() {
+        // Given
+        UUID userId = candidate.getId();
+        String cursor = new SessionCursor(OffsetDateTime.now(), UUID.randomUUID()).encode();
+        when(sessionRepository.findUserSessionIdsPage(eq(userId), anyList(), eq(21), eq(0L))).thenReturn(List.of());
+        when(sessionRepository.findUserSessionIdsAfter(eq(userId), anyList(), any(), any(), eq(21))).thenReturn(List.of());
+        when(sessionRepository.countUserSessions(eq(userId), anyList())).thenReturn(42L);
+
+        // When
+        SessionListResponse firstPage = sessionService.listSessions(userId, 0, 20, null, null);
+        SessionListResponse cursorPage = sessionService.listSessions(userId, 0, 20, null, cursor);
+
+        // Then
+        assertThat(firstPage.total()).isEqualTo(42L);
+        assertThat(cursorPage.total()).isNull();
+        verify(sessionRepository, times(1)).countUserSessions(any(), anyList());
+    }
+
+    @Test
+    @DisplayName("Should reject page sizes above the maximum")
+    void shouldRejectOversizedPages() {
+        // When & Then
+        assertThatThrownBy(() -> sessionService.listSessions(candidate.getId(), 0, Integer.MAX_VALUE, null, null))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(sessionRepository);
+    }
+}
@@ -0,0 +1,118 @@
+package com.mockly.core.service;
+
+import com.mockly.data.enums.SessionStatus;
+import com.mockly.data.projection.SessionStatusView;
+import com.mockly.data.repository.SessionParticipantRepository;
+import com.mockly.data.repository.SessionRepository;
+import com.mockly.data.repository.SessionStatusCounterRepository.Transition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StaleSessionReaper Tests")
+class StaleSessionReaperTest {
+
+    @Mock
+    private SessionRepository sessionRepository;
+
+    @Mock
+    private SessionParticipantRepository participantRepository;
+
+    @Mock
+    private SessionResponseCache sessionResponseCache;
+
+    @Mock
+    private SessionStatsService sessionStats;
+
+    @Mock
+    private InterviewerCalendarService interviewerCalendar;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StaleSessionReaper reaper;
+
+    @BeforeEach
+    void setUp() {
+        reaper = new StaleSessionReaper(sessionRepository, participantRepository, sessionResponseCache,
+                sessionStats, interviewerCalendar, redisTemplate, transactionManager, true, 1440, 480, 2, 10, 120);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("Should skip the run when another node holds the lease")
+    void shouldSkipWhenLeaseHeldElsewhere() {
+        // Given
+        when(valueOperations.setIfAbsent(eq(StaleSessionReaper.LEASE_KEY), anyString(), any(Duration.class)))
+                .thenReturn(false);
+
+        // When
+        reaper.reap();
+
+        // Then
+        verifyNoInteractions(sessionRepository, participantRepository, sessionResponseCache, sessionStats,
+                interviewerCalendar, transactionManager);
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("Should expire stale sessions in chunks until a partial chunk, then release the lease")
+    void shouldExpireInChunks() {
+        // Given
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        when(valueOperations.setIfAbsent(eq(StaleSessionReaper.LEASE_KEY), anyString(), any(Duration.class)))
+                .thenReturn(true);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(StaleSessionReaper.LEASE_KEY)), any(Object[].class)))
+                .thenReturn(1L);
+        when(sessionRepository.lockStaleSessionIds(any(), any(), eq(2)))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of(third));
+        when(sessionRepository.findStatusesByIdIn(List.of(first, second))).thenReturn(List.of(
+                new SessionStatusView(first, SessionStatus.SCHEDULED),
+                new SessionStatusView(second, SessionStatus.ACTIVE)));
+
+        // When
+        reaper.reap();
+
+        // Then
+        verify(sessionRepository).expireOpenSessions(eq(List.of(first, second)), any());
+        verify(participantRepository).markAllLeftInSessions(eq(List.of(first, second)), any());
+        verify(sessionRepository).expireOpenSessions(eq(List.of(third)), any());
+        verify(participantRepository).markAllLeftInSessions(eq(List.of(third)), any());
+        verify(sessionRepository, times(2)).lockStaleSessionIds(any(), any(), eq(2));
+        verify(sessionStats).recordTransitions(List.of(
+                new Transition(first, SessionStatus.SCHEDULED, SessionStatus.CANCELED),
+                new Transition(second, SessionStatus.ACTIVE, SessionStatus.ENDED)));
+        verify(sessionResponseCache).evict(first);
+        verify(sessionResponseCache).evict(second);
+        verify(sessionResponseCache).evict(third);
+        verify(interviewerCalendar).onSessionsClosed(List.of(first, second));
+        verify(interviewerCalendar).onSessionsClosed(List.of(third));
+        verify(transactionManager, times(2)).commit(any());
+        // One renewal before the second chunk, one release at the end
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), eq(List.of(StaleSessionReaper.LEASE_KEY)), any(Object[].class));
+    }
+}
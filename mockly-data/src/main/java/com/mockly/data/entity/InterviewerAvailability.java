@@ -0,0 +1,48 @@
+package com.mockly.data.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * A window in which an interviewer accepts scheduled sessions.
+ */
+@Entity
+@Table(name = "interviewer_availability", indexes = {
+    @Index(name = "idx_interviewer_availability_interviewer_ends", columnList = "interviewer_id, ends_at"),
+    @Index(name = "idx_interviewer_availability_ends", columnList = "ends_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InterviewerAvailability {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "interviewer_id", nullable = false)
+    private UUID interviewerId;
+
+    @Column(name = "starts_at", nullable = false)
+    private OffsetDateTime startsAt;
+
+    @Column(name = "ends_at", nullable = false)
+    private OffsetDateTime endsAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private OffsetDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = OffsetDateTime.now();
+        }
+    }
+}
@@ -17,6 +17,7 @@ import java.util.UUID;
 @AllArgsConstructor
 @Builder
 @ToString(exclude = {"user"})
+@EqualsAndHashCode(exclude = {"user"})
 public class Profile {
 
     @Id
@@ -52,6 +52,10 @@ public class Report {
     @Column(name = "error_message", columnDefinition = "TEXT")
     private String errorMessage;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private OffsetDateTime createdAt;
 
@@ -3,6 +3,8 @@ package com.mockly.data.entity;
 import com.mockly.data.enums.SessionStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.springframework.data.domain.Persistable;
 
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
@@ -10,20 +12,48 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
+@NamedEntityGraph(
+    name = Session.DETAILS_GRAPH,
+    attributeNodes = {
+        @NamedAttributeNode(value = "creator", subgraph = "user-profile"),
+        @NamedAttributeNode(value = "participants", subgraph = "participant-user")
+    },
+    subgraphs = {
+        @NamedSubgraph(name = "participant-user", attributeNodes = @NamedAttributeNode(value = "user", subgraph = "user-profile")),
+        @NamedSubgraph(name = "user-profile", attributeNodes = @NamedAttributeNode("profile"))
+    }
+)
 @Table(name = "sessions", indexes = {
     @Index(name = "idx_sessions_created_by", columnList = "created_by"),
     @Index(name = "idx_sessions_status", columnList = "status"),
-    @Index(name = "idx_sessions_created_at", columnList = "created_at")
+    @Index(name = "idx_sessions_created_at", columnList = "created_at"),
+    @Index(name = "idx_sessions_created_by_created_at", columnList = "created_by, created_at DESC, id DESC"),
+    @Index(name = "idx_sessions_created_at_id", columnList = "created_at DESC, id DESC")
 })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @ToString(exclude = {"participants", "artifacts", "report"})
-public class Session {
-
+public class Session implements Persistable<UUID> {
+
+    /**
+     * Everything SessionMapper reads except artifacts, which are batch-fetched
+     * (two bags cannot be join-fetched together).
+     */
+    public static final String DETAILS_GRAPH = "Session.details";
+
+    /**
+     * Partial unique index allowing one SCHEDULED or ACTIVE session per creator (V4 migration).
+     * Not declared in {@link Table#indexes()} because JPA cannot express the WHERE clause.
+     */
+    public static final String OPEN_SESSION_PER_CREATOR_INDEX = "uq_sessions_created_by_open";
+
+    /**
+     * Assigned by the application so dependent values (room ID, participants) can be
+     * written in the same flush; see {@link #isNew()}.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
     @Column(name = "created_by", nullable = false)
@@ -53,6 +83,13 @@ public class Session {
     @Column(name = "recording_id", length = 255)
     private String recordingId;
 
+    /**
+     * Optimistic lock; a write based on a stale read fails instead of overwriting.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private OffsetDateTime createdAt;
 
@@ -64,11 +101,35 @@ public class Session {
     private List<SessionParticipant> participants = new ArrayList<>();
 
     @OneToMany(mappedBy = "session", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     @Builder.Default
     private List<Artifact> artifacts = new ArrayList<>();
 
+    @Transient
+    @Builder.Default
+    @EqualsAndHashCode.Exclude
+    private boolean newEntity = true;
+
+    /**
+     * New until persisted or loaded, so {@code save} persists an entity with an assigned ID
+     * instead of merging it (which would first select it).
+     */
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostPersist
+    @PostLoad
+    protected void markNotNew() {
+        newEntity = false;
+    }
+
     @PrePersist
     protected void onCreate() {
+        if (id == null) {
+            id = UUID.randomUUID();
+        }
         OffsetDateTime now = OffsetDateTime.now();
         if (createdAt == null) {
             createdAt = now;
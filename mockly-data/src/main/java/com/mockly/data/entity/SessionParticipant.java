@@ -14,7 +14,8 @@ import java.util.UUID;
 @Table(name = "session_participants", 
     indexes = {
         @Index(name = "idx_session_participants_session", columnList = "session_id"),
-        @Index(name = "idx_session_participants_user", columnList = "user_id")
+        @Index(name = "idx_session_participants_user", columnList = "user_id"),
+        @Index(name = "idx_session_participants_user_session", columnList = "user_id, session_id")
     },
     uniqueConstraints = {
         @UniqueConstraint(name = "uk_session_participants_session_user", columnNames = {"session_id", "user_id"})
@@ -15,6 +15,7 @@ import java.util.UUID;
 @AllArgsConstructor
 @Builder
 @ToString(exclude = {"profile"})
+@EqualsAndHashCode(exclude = {"profile"})
 public class User {
 
     @Id
@@ -0,0 +1,15 @@
+package com.mockly.data.projection;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * An open session with a start time, as seen from its interviewer's calendar.
+ * {@code endsAt} is null until the session has ended.
+ */
+public record BookedSlotView(
+        UUID sessionId,
+        UUID interviewerId,
+        OffsetDateTime startsAt,
+        OffsetDateTime endsAt
+) {}
@@ -0,0 +1,14 @@
+package com.mockly.data.projection;
+
+import java.util.UUID;
+
+/**
+ * Columns a display name is built from, read without loading the user entity.
+ * Name and surname are null when the user has no profile.
+ */
+public record DisplayNameView(
+        UUID userId,
+        String name,
+        String surname,
+        String email
+) {}
@@ -0,0 +1,17 @@
+package com.mockly.data.projection;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Profile columns indexed for interviewer search, read without loading the user entity.
+ */
+public record InterviewerProfileView(
+        UUID userId,
+        String name,
+        String surname,
+        String avatarUrl,
+        String level,
+        List<String> skills
+) {
+}
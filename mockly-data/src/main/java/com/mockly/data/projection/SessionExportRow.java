@@ -0,0 +1,25 @@
+package com.mockly.data.projection;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * One session as exported for analytics.
+ * {@code participantsJson} and {@code artifactsJson} are JSON arrays rendered by the database;
+ * they are null when details were not requested, and {@code artifactsJson} is also null for a
+ * session without artifacts. {@code reportStatus} is null for a session without a report.
+ */
+public record SessionExportRow(
+        UUID id,
+        UUID createdBy,
+        String status,
+        OffsetDateTime startsAt,
+        OffsetDateTime endsAt,
+        OffsetDateTime createdAt,
+        UUID candidateId,
+        UUID interviewerId,
+        long artifactCount,
+        String reportStatus,
+        String participantsJson,
+        String artifactsJson
+) {}
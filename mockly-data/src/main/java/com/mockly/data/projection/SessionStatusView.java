@@ -0,0 +1,13 @@
+package com.mockly.data.projection;
+
+import com.mockly.data.enums.SessionStatus;
+
+import java.util.UUID;
+
+/**
+ * A session's current status.
+ */
+public record SessionStatusView(
+        UUID sessionId,
+        SessionStatus status
+) {}
@@ -0,0 +1,23 @@
+package com.mockly.data.projection;
+
+import com.mockly.data.enums.SessionStatus;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Columns needed for the session list view: the session's own fields plus the
+ * other participant's identity. Counterpart fields are null when nobody else joined the session.
+ */
+public record SessionSummaryView(
+        UUID id,
+        SessionStatus status,
+        OffsetDateTime startsAt,
+        OffsetDateTime endsAt,
+        OffsetDateTime createdAt,
+        UUID counterpartId,
+        String counterpartName,
+        String counterpartSurname,
+        String counterpartEmail
+) {
+}
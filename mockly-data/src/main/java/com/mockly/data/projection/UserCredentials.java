@@ -0,0 +1,16 @@
+package com.mockly.data.projection;
+
+import com.mockly.data.entity.Profile;
+
+import java.util.UUID;
+
+/**
+ * Columns needed to authenticate a user, loaded in a single statement.
+ * {@code role} is null when the user has no profile.
+ */
+public record UserCredentials(
+        UUID id,
+        String passwordHash,
+        Profile.ProfileRole role
+) {
+}
@@ -0,0 +1,29 @@
+package com.mockly.data.repository;
+
+import com.mockly.data.entity.InterviewerAvailability;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface InterviewerAvailabilityRepository extends JpaRepository<InterviewerAvailability, UUID> {
+
+    /**
+     * Find an interviewer's windows that have not ended yet, earliest first.
+     */
+    List<InterviewerAvailability> findByInterviewerIdAndEndsAtAfterOrderByStartsAt(UUID interviewerId, OffsetDateTime after);
+
+    /**
+     * Find every window that has not ended yet; used to warm the calendar.
+     */
+    List<InterviewerAvailability> findByEndsAtAfter(OffsetDateTime after);
+
+    /**
+     * Find a window owned by the given interviewer.
+     */
+    Optional<InterviewerAvailability> findByIdAndInterviewerId(UUID id, UUID interviewerId);
+}
@@ -1,14 +1,64 @@
 package com.mockly.data.repository;
 
 import com.mockly.data.entity.Profile;
+import com.mockly.data.projection.InterviewerProfileView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface ProfileRepository extends JpaRepository<Profile, UUID> {
     Optional<Profile> findByUserId(UUID userId);
-}
 
+    /**
+     * Find a profile together with its user in one joined query.
+     */
+    @Query("SELECT p FROM Profile p JOIN FETCH p.user WHERE p.userId = :userId")
+    Optional<Profile> findWithUserByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Find a profile together with its user by the user's email in one joined query.
+     */
+    @Query("SELECT p FROM Profile p JOIN FETCH p.user u WHERE u.email = :email")
+    Optional<Profile> findWithUserByEmail(@Param("email") String email);
+
+    /**
+     * Load only the role of a user.
+     */
+    @Query("SELECT p.role FROM Profile p WHERE p.userId = :userId")
+    Optional<Profile.ProfileRole> findRoleByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Next page of interviewer profiles after {@code afterUserId}, ordered by user ID (keyset pagination).
+     */
+    @Query("""
+            SELECT new com.mockly.data.projection.InterviewerProfileView(
+                p.userId, p.name, p.surname, p.avatarUrl, p.level, p.skills)
+            FROM Profile p
+            WHERE p.role = com.mockly.data.entity.Profile.ProfileRole.INTERVIEWER
+            AND p.userId > :afterUserId
+            ORDER BY p.userId
+            """)
+    List<InterviewerProfileView> findInterviewersAfter(
+        @Param("afterUserId") UUID afterUserId,
+        Pageable pageable
+    );
+
+    /**
+     * Indexed columns of a single interviewer; empty if the user has no interviewer profile.
+     */
+    @Query("""
+            SELECT new com.mockly.data.projection.InterviewerProfileView(
+                p.userId, p.name, p.surname, p.avatarUrl, p.level, p.skills)
+            FROM Profile p
+            WHERE p.userId = :userId
+            AND p.role = com.mockly.data.entity.Profile.ProfileRole.INTERVIEWER
+            """)
+    Optional<InterviewerProfileView> findInterviewerView(@Param("userId") UUID userId);
+}
@@ -0,0 +1,75 @@
+package com.mockly.data.repository;
+
+import com.mockly.data.entity.Session;
+import com.mockly.data.entity.SessionParticipant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Inserts many sessions and participants as JDBC batches, bypassing the persistence context.
+ * <p>
+ * Meant for bulk scheduling, where building and flushing thousands of managed entities costs
+ * more than the inserts themselves. Callers assign all IDs and timestamps; the entities are
+ * only used as value carriers and are not managed afterwards.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SessionBatchWriter {
+
+    // A creator that already has an open session is skipped instead of failing the whole batch
+    private static final String INSERT_SESSION = """
+            INSERT INTO sessions (id, created_by, status, starts_at, room_provider, room_id, version, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?)
+            ON CONFLICT (created_by) WHERE status IN ('SCHEDULED', 'ACTIVE') DO NOTHING
+            """;
+
+    private static final String INSERT_PARTICIPANT = """
+            INSERT INTO session_participants (id, session_id, user_id, role_in_session)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Insert sessions in one batch.
+     *
+     * @return Per session, whether it was inserted (false if its creator already has an open session)
+     */
+    public boolean[] insertSessions(List<Session> sessions) {
+        int[] counts = jdbcTemplate.batchUpdate(INSERT_SESSION, sessions.stream()
+                .map(session -> new Object[]{
+                        session.getId(),
+                        session.getCreatedBy(),
+                        session.getStatus().name(),
+                        session.getStartsAt(),
+                        session.getRoomProvider(),
+                        session.getRoomId(),
+                        session.getCreatedAt(),
+                        session.getUpdatedAt()
+                })
+                .toList());
+
+        boolean[] inserted = new boolean[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            inserted[i] = counts[i] != 0;
+        }
+        return inserted;
+    }
+
+    /**
+     * Insert participants in one batch.
+     */
+    public void insertParticipants(List<SessionParticipant> participants) {
+        jdbcTemplate.batchUpdate(INSERT_PARTICIPANT, participants.stream()
+                .map(participant -> new Object[]{
+                        participant.getId(),
+                        participant.getSessionId(),
+                        participant.getUserId(),
+                        participant.getRoleInSession().name()
+                })
+                .toList());
+    }
+}
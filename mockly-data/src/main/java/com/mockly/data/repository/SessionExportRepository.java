@@ -0,0 +1,103 @@
+package com.mockly.data.repository;
+
+import com.mockly.data.projection.SessionExportRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Streams sessions for export through a forward-only JDBC cursor, one row at a time.
+ * <p>
+ * The PostgreSQL driver only fetches in batches of the fetch size when autocommit is off, so callers
+ * must run {@link #stream} inside a (read-only) transaction; otherwise the driver buffers the whole
+ * result set.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SessionExportRepository {
+
+    private static final String DETAIL_COLUMNS = """
+            (SELECT json_agg(json_build_object(
+                        'userId', p.user_id, 'role', p.role_in_session, 'joinedAt', p.joined_at, 'leftAt', p.left_at)
+                    ORDER BY p.role_in_session, p.user_id)
+             FROM session_participants p WHERE p.session_id = s.id) AS participants,
+            (SELECT json_agg(json_build_object(
+                        'id', a.id, 'type', a.type, 'durationSec', a.duration_sec, 'sizeBytes', a.size_bytes,
+                        'createdAt', a.created_at)
+                    ORDER BY a.created_at, a.id)
+             FROM artifacts a WHERE a.session_id = s.id) AS artifacts
+            """;
+
+    private static final String NO_DETAIL_COLUMNS = "NULL AS participants, NULL AS artifacts";
+
+    private static final String SELECT = """
+            SELECT s.id, s.created_by, s.status, s.starts_at, s.ends_at, s.created_at,
+                   (SELECT p.user_id FROM session_participants p
+                    WHERE p.session_id = s.id AND p.role_in_session = 'CANDIDATE' LIMIT 1) AS candidate_id,
+                   (SELECT p.user_id FROM session_participants p
+                    WHERE p.session_id = s.id AND p.role_in_session = 'INTERVIEWER' LIMIT 1) AS interviewer_id,
+                   (SELECT COUNT(*) FROM artifacts a WHERE a.session_id = s.id) AS artifact_count,
+                   r.status AS report_status,
+                   %s
+            FROM sessions s
+            LEFT JOIN reports r ON r.session_id = s.id
+            %s
+            ORDER BY s.created_at, s.id
+            """;
+
+    private static final String USER_FILTER = """
+            WHERE s.created_by = ?
+               OR s.id IN (SELECT p.session_id FROM session_participants p WHERE p.user_id = ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Stream sessions oldest first. Must run inside a transaction (see class comment).
+     *
+     * @param userId Only sessions this user created or takes part in; null for all sessions
+     * @param includeDetails Whether to render the participants and artifacts as JSON
+     * @param fetchSize Rows fetched from the database per round trip
+     * @param consumer Called for every row, in order; exceptions it throws abort the stream
+     */
+    public void stream(UUID userId, boolean includeDetails, int fetchSize, Consumer<SessionExportRow> consumer) {
+        String sql = SELECT.formatted(includeDetails ? DETAIL_COLUMNS : NO_DETAIL_COLUMNS,
+                userId != null ? USER_FILTER : "");
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            if (userId != null) {
+                statement.setObject(1, userId);
+                statement.setObject(2, userId);
+            }
+            return statement;
+        }, rs -> {
+            consumer.accept(toRow(rs));
+        });
+    }
+
+    private static SessionExportRow toRow(ResultSet rs) throws SQLException {
+        return new SessionExportRow(
+                rs.getObject("id", UUID.class),
+                rs.getObject("created_by", UUID.class),
+                rs.getString("status"),
+                rs.getObject("starts_at", OffsetDateTime.class),
+                rs.getObject("ends_at", OffsetDateTime.class),
+                rs.getObject("created_at", OffsetDateTime.class),
+                rs.getObject("candidate_id", UUID.class),
+                rs.getObject("interviewer_id", UUID.class),
+                rs.getLong("artifact_count"),
+                rs.getString("report_status"),
+                rs.getString("participants"),
+                rs.getString("artifacts"));
+    }
+}
@@ -1,9 +1,15 @@
 package com.mockly.data.repository;
 
 import com.mockly.data.entity.SessionParticipant;
+import com.mockly.data.enums.ParticipantRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -26,6 +32,11 @@ public interface SessionParticipantRepository extends JpaRepository<SessionParti
      */
     List<SessionParticipant> findByUserId(UUID userId);
 
+    /**
+     * Find the participants with the given role in any of the given sessions.
+     */
+    List<SessionParticipant> findBySessionIdInAndRoleInSession(Collection<UUID> sessionIds, ParticipantRole role);
+
     /**
      * Check if a user is already a participant in a session.
      */
@@ -40,5 +51,22 @@ public interface SessionParticipantRepository extends JpaRepository<SessionParti
      * Find all active participants (not left) in a session.
      */
     List<SessionParticipant> findBySessionIdAndLeftAtIsNull(UUID sessionId);
-}
 
+    /**
+     * Mark every participant still in a session as left, in a single statement.
+     *
+     * @return Number of participants updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE SessionParticipant p SET p.leftAt = :leftAt WHERE p.sessionId = :sessionId AND p.leftAt IS NULL")
+    int markAllLeft(@Param("sessionId") UUID sessionId, @Param("leftAt") OffsetDateTime leftAt);
+
+    /**
+     * Mark every participant still in any of the given sessions as left, in a single statement.
+     *
+     * @return Number of participants updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE SessionParticipant p SET p.leftAt = :leftAt WHERE p.sessionId IN :sessionIds AND p.leftAt IS NULL")
+    int markAllLeftInSessions(@Param("sessionIds") Collection<UUID> sessionIds, @Param("leftAt") OffsetDateTime leftAt);
+}
@@ -2,11 +2,19 @@ package com.mockly.data.repository;
 
 import com.mockly.data.entity.Session;
 import com.mockly.data.enums.SessionStatus;
+import com.mockly.data.projection.BookedSlotView;
+import com.mockly.data.projection.SessionStatusView;
+import com.mockly.data.projection.SessionSummaryView;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,6 +22,20 @@ import java.util.UUID;
 @Repository
 public interface SessionRepository extends JpaRepository<Session, UUID> {
 
+    /**
+     * Find a session with creator, participants and their profiles in one query.
+     * Artifacts are loaded by a single batch select when first accessed.
+     */
+    @EntityGraph(Session.DETAILS_GRAPH)
+    Optional<Session> findDetailedById(UUID id);
+
+    /**
+     * Find sessions with creator, participants and their profiles in one query.
+     * Order is unspecified; callers reorder by the id list.
+     */
+    @EntityGraph(Session.DETAILS_GRAPH)
+    List<Session> findDetailedByIdIn(Collection<UUID> ids);
+
     /**
      * Find a session by ID and creator ID.
      */
@@ -57,5 +79,213 @@ public interface SessionRepository extends JpaRepository<Session, UUID> {
      * Check if a session exists with a specific status for a user.
      */
     boolean existsByCreatedByAndStatusIn(UUID userId, List<SessionStatus> statuses);
-}
 
+    /**
+     * IDs of sessions the user created or participates in, newest first, page by offset.
+     * Ordered by (created_at, id) so the last row can seed a keyset cursor.
+     */
+    @Query(value = """
+            SELECT s.id FROM sessions s
+            WHERE s.id IN (
+                SELECT c.id FROM sessions c WHERE c.created_by = :userId
+                UNION
+                SELECT p.session_id FROM session_participants p WHERE p.user_id = :userId
+            )
+            AND s.status IN (:statuses)
+            ORDER BY s.created_at DESC, s.id DESC
+            LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<UUID> findUserSessionIdsPage(
+        @Param("userId") UUID userId,
+        @Param("statuses") List<String> statuses,
+        @Param("limit") int limit,
+        @Param("offset") long offset
+    );
+
+    /**
+     * IDs of sessions the user created or participates in, newest first, strictly after the
+     * (created_at, id) keyset cursor.
+     */
+    @Query(value = """
+            SELECT s.id FROM sessions s
+            WHERE s.id IN (
+                SELECT c.id FROM sessions c WHERE c.created_by = :userId
+                UNION
+                SELECT p.session_id FROM session_participants p WHERE p.user_id = :userId
+            )
+            AND s.status IN (:statuses)
+            AND (s.created_at, s.id) < (:cursorCreatedAt, :cursorId)
+            ORDER BY s.created_at DESC, s.id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<UUID> findUserSessionIdsAfter(
+        @Param("userId") UUID userId,
+        @Param("statuses") List<String> statuses,
+        @Param("cursorCreatedAt") OffsetDateTime cursorCreatedAt,
+        @Param("cursorId") UUID cursorId,
+        @Param("limit") int limit
+    );
+
+    /**
+     * Count sessions the user created or participates in.
+     */
+    @Query(value = """
+            SELECT COUNT(*) FROM sessions s
+            WHERE s.id IN (
+                SELECT c.id FROM sessions c WHERE c.created_by = :userId
+                UNION
+                SELECT p.session_id FROM session_participants p WHERE p.user_id = :userId
+            )
+            AND s.status IN (:statuses)
+            """, nativeQuery = true)
+    long countUserSessions(
+        @Param("userId") UUID userId,
+        @Param("statuses") List<String> statuses
+    );
+
+    /**
+     * Summaries of sessions the user created or participates in, newest first.
+     * Reads only the listed columns plus the other participant's name and email.
+     */
+    @Query("""
+            SELECT new com.mockly.data.projection.SessionSummaryView(
+                s.id, s.status, s.startsAt, s.endsAt, s.createdAt,
+                other.userId, pr.name, pr.surname, u.email)
+            FROM Session s
+            LEFT JOIN SessionParticipant other ON other.sessionId = s.id AND other.userId <> :userId
+            LEFT JOIN User u ON u.id = other.userId
+            LEFT JOIN Profile pr ON pr.userId = other.userId
+            WHERE (s.createdBy = :userId
+                   OR s.id IN (SELECT p.sessionId FROM SessionParticipant p WHERE p.userId = :userId))
+            AND s.status IN :statuses
+            ORDER BY s.createdAt DESC, s.id DESC
+            """)
+    List<SessionSummaryView> findSummariesByUserId(
+        @Param("userId") UUID userId,
+        @Param("statuses") List<SessionStatus> statuses,
+        Pageable pageable
+    );
+
+    /**
+     * Open sessions starting at or after {@code since}, with their interviewer; used to warm the
+     * interviewers' calendars.
+     */
+    @Query("""
+            SELECT new com.mockly.data.projection.BookedSlotView(s.id, p.userId, s.startsAt, s.endsAt)
+            FROM Session s JOIN s.participants p
+            WHERE p.roleInSession = com.mockly.data.enums.ParticipantRole.INTERVIEWER
+            AND s.status IN (com.mockly.data.enums.SessionStatus.SCHEDULED, com.mockly.data.enums.SessionStatus.ACTIVE)
+            AND s.startsAt >= :since
+            """)
+    List<BookedSlotView> findBookedSlotsStartingFrom(@Param("since") OffsetDateTime since);
+
+    /**
+     * Open sessions of one interviewer starting at or after {@code since}.
+     */
+    @Query("""
+            SELECT new com.mockly.data.projection.BookedSlotView(s.id, p.userId, s.startsAt, s.endsAt)
+            FROM Session s JOIN s.participants p
+            WHERE p.userId = :interviewerId
+            AND p.roleInSession = com.mockly.data.enums.ParticipantRole.INTERVIEWER
+            AND s.status IN (com.mockly.data.enums.SessionStatus.SCHEDULED, com.mockly.data.enums.SessionStatus.ACTIVE)
+            AND s.startsAt >= :since
+            """)
+    List<BookedSlotView> findInterviewerBookedSlots(
+        @Param("interviewerId") UUID interviewerId,
+        @Param("since") OffsetDateTime since
+    );
+
+    /**
+     * Open sessions of several interviewers starting at or after {@code since}.
+     */
+    @Query("""
+            SELECT new com.mockly.data.projection.BookedSlotView(s.id, p.userId, s.startsAt, s.endsAt)
+            FROM Session s JOIN s.participants p
+            WHERE p.userId IN :interviewerIds
+            AND p.roleInSession = com.mockly.data.enums.ParticipantRole.INTERVIEWER
+            AND s.status IN (com.mockly.data.enums.SessionStatus.SCHEDULED, com.mockly.data.enums.SessionStatus.ACTIVE)
+            AND s.startsAt >= :since
+            """)
+    List<BookedSlotView> findInterviewersBookedSlots(
+        @Param("interviewerIds") Collection<UUID> interviewerIds,
+        @Param("since") OffsetDateTime since
+    );
+
+    /**
+     * Which of the given users already created a scheduled or active session.
+     */
+    @Query("""
+            SELECT DISTINCT s.createdBy FROM Session s
+            WHERE s.createdBy IN :userIds
+            AND s.status IN (com.mockly.data.enums.SessionStatus.SCHEDULED, com.mockly.data.enums.SessionStatus.ACTIVE)
+            """)
+    List<UUID> findCreatorsWithOpenSession(@Param("userIds") Collection<UUID> userIds);
+
+    /**
+     * Lock a session's row and read its status, so a following transition knows what it replaces.
+     */
+    @Query(value = "SELECT status FROM sessions WHERE id = :sessionId FOR UPDATE", nativeQuery = true)
+    Optional<String> lockStatusById(@Param("sessionId") UUID sessionId);
+
+    /**
+     * Current status of several sessions.
+     */
+    @Query("SELECT new com.mockly.data.projection.SessionStatusView(s.id, s.status) FROM Session s WHERE s.id IN :sessionIds")
+    List<SessionStatusView> findStatusesByIdIn(@Param("sessionIds") Collection<UUID> sessionIds);
+
+    /**
+     * End a session in a single statement unless it is already ended.
+     * Bumps the version so concurrent optimistic writers see the change.
+     *
+     * @return Number of sessions updated (0 or 1)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Session s
+            SET s.status = com.mockly.data.enums.SessionStatus.ENDED, s.endsAt = :endedAt, s.updatedAt = :endedAt,
+                s.version = s.version + 1
+            WHERE s.id = :sessionId AND s.status <> com.mockly.data.enums.SessionStatus.ENDED
+            """)
+    int markEnded(@Param("sessionId") UUID sessionId, @Param("endedAt") OffsetDateTime endedAt);
+
+    /**
+     * Lock up to {@code limit} sessions that are still open past their deadline, oldest first.
+     * SCHEDULED sessions are stale once their start time (or creation time) is before
+     * {@code scheduledBefore}; ACTIVE ones once they started before {@code activeBefore}.
+     * Rows locked by another transaction are skipped, so concurrent writers are not blocked.
+     */
+    @Query(value = """
+            SELECT s.id FROM sessions s
+            WHERE (s.status = 'SCHEDULED' AND COALESCE(s.starts_at, s.created_at) < :scheduledBefore)
+               OR (s.status = 'ACTIVE' AND COALESCE(s.starts_at, s.created_at) < :activeBefore)
+            ORDER BY s.created_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<UUID> lockStaleSessionIds(
+        @Param("scheduledBefore") OffsetDateTime scheduledBefore,
+        @Param("activeBefore") OffsetDateTime activeBefore,
+        @Param("limit") int limit
+    );
+
+    /**
+     * Expire open sessions in one statement: SCHEDULED ones that never started become CANCELED,
+     * ACTIVE ones become ENDED.
+     *
+     * @return Number of sessions updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Session s
+            SET s.status = CASE WHEN s.status = com.mockly.data.enums.SessionStatus.SCHEDULED
+                                THEN com.mockly.data.enums.SessionStatus.CANCELED
+                                ELSE com.mockly.data.enums.SessionStatus.ENDED END,
+                s.endsAt = :endedAt, s.updatedAt = :endedAt, s.version = s.version + 1
+            WHERE s.id IN :sessionIds
+            AND s.status IN (com.mockly.data.enums.SessionStatus.SCHEDULED, com.mockly.data.enums.SessionStatus.ACTIVE)
+            """)
+    int expireOpenSessions(
+        @Param("sessionIds") Collection<UUID> sessionIds,
+        @Param("endedAt") OffsetDateTime endedAt
+    );
+}
@@ -0,0 +1,247 @@
+package com.mockly.data.repository;
+
+import com.mockly.data.enums.SessionStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Session counts per status, kept per participant ({@code session_status_counts}) and overall
+ * ({@code session_status_totals}, sharded to spread concurrent updates; V7 migration).
+ * <p>
+ * Counter rows are always locked in (user, status) and then (status, shard) order, so transitions
+ * and reconciliation cannot deadlock each other.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SessionStatusCounterRepository {
+
+    /**
+     * Number of rows per status in {@code session_status_totals}; must match the migration.
+     */
+    static final int TOTAL_SHARDS = 16;
+
+    /**
+     * A session moving from one status to another; {@code from} is null for a new session.
+     */
+    public record Transition(UUID sessionId, SessionStatus from, SessionStatus to) {}
+
+    // Participants of the given sessions lose the old status and gain the new one, netted per row
+    private static final String APPLY_TO_PARTICIPANTS = """
+            INSERT INTO session_status_counts (user_id, status, count)
+            SELECT p.user_id, d.status, SUM(d.delta)
+            FROM unnest(?::uuid[], ?::varchar[], ?::varchar[]) AS t(session_id, from_status, to_status)
+            JOIN session_participants p ON p.session_id = t.session_id
+            CROSS JOIN LATERAL (VALUES (t.from_status, -1), (t.to_status, 1)) AS d(status, delta)
+            WHERE d.status IS NOT NULL
+            GROUP BY p.user_id, d.status
+            HAVING SUM(d.delta) <> 0
+            ORDER BY p.user_id, d.status
+            ON CONFLICT (user_id, status) DO UPDATE SET count = session_status_counts.count + EXCLUDED.count
+            """;
+
+    private static final String APPLY_TO_TOTALS =
+            "UPDATE session_status_totals SET count = count + ? WHERE status = ? AND shard = ?";
+
+    private static final String FIND_USER_COUNTS =
+            "SELECT status, count FROM session_status_counts WHERE user_id = ?";
+
+    private static final String FIND_TOTALS =
+            "SELECT status, SUM(count) AS count FROM session_status_totals GROUP BY status";
+
+    private static final String FIND_USER_IDS_AFTER =
+            "SELECT id FROM users WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final String CREATE_USER_ROWS = """
+            INSERT INTO session_status_counts (user_id, status, count)
+            SELECT u.user_id, s.status, 0
+            FROM unnest(?::uuid[]) AS u(user_id) CROSS JOIN unnest(?::varchar[]) AS s(status)
+            ORDER BY u.user_id, s.status
+            ON CONFLICT (user_id, status) DO NOTHING
+            """;
+
+    private static final String LOCK_USER_ROWS = """
+            SELECT user_id, status, count FROM session_status_counts
+            WHERE user_id = ANY(?)
+            ORDER BY user_id, status
+            FOR UPDATE
+            """;
+
+    private static final String COUNT_USER_SESSIONS = """
+            SELECT p.user_id, s.status, COUNT(*) AS count
+            FROM session_participants p
+            JOIN sessions s ON s.id = p.session_id
+            WHERE p.user_id = ANY(?)
+            GROUP BY p.user_id, s.status
+            """;
+
+    private static final String SET_USER_COUNT =
+            "UPDATE session_status_counts SET count = ? WHERE user_id = ? AND status = ?";
+
+    private static final String LOCK_TOTALS =
+            "SELECT status, shard FROM session_status_totals ORDER BY status, shard FOR UPDATE";
+
+    private static final String COUNT_SESSIONS = "SELECT status, COUNT(*) AS count FROM sessions GROUP BY status";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Apply status transitions to the participants' and the overall counters. Must run in the
+     * transaction that performs the transitions, after the sessions' participants are written.
+     */
+    public void apply(List<Transition> transitions) {
+        List<Transition> changes = transitions.stream()
+                .filter(t -> t.from() != t.to())
+                .toList();
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.update(withArrays(APPLY_TO_PARTICIPANTS,
+                new Object[][]{
+                        changes.stream().map(Transition::sessionId).toArray(),
+                        changes.stream().map(t -> name(t.from())).toArray(),
+                        changes.stream().map(t -> name(t.to())).toArray()
+                },
+                new String[]{"uuid", "varchar", "varchar"}));
+
+        Map<SessionStatus, Long> deltas = new EnumMap<>(SessionStatus.class);
+        for (Transition change : changes) {
+            if (change.from() != null) {
+                deltas.merge(change.from(), -1L, Long::sum);
+            }
+            deltas.merge(change.to(), 1L, Long::sum);
+        }
+        int shard = ThreadLocalRandom.current().nextInt(TOTAL_SHARDS);
+        List<Object[]> updates = deltas.entrySet().stream()
+                .filter(e -> e.getValue() != 0)
+                .sorted(Map.Entry.comparingByKey(Comparator.comparing(SessionStatus::name)))
+                .map(e -> new Object[]{e.getValue(), e.getKey().name(), shard})
+                .toList();
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(APPLY_TO_TOTALS, updates);
+        }
+    }
+
+    /**
+     * Counts of the sessions a user takes part in, by status; statuses without sessions are absent.
+     */
+    public Map<SessionStatus, Long> findUserCounts(UUID userId) {
+        return toCounts(jdbcTemplate.queryForList(FIND_USER_COUNTS, userId));
+    }
+
+    /**
+     * Counts of all sessions by status.
+     */
+    public Map<SessionStatus, Long> findTotals() {
+        return toCounts(jdbcTemplate.queryForList(FIND_TOTALS));
+    }
+
+    /**
+     * Next page of user IDs in ID order, for walking all users.
+     */
+    public List<UUID> findUserIdsAfter(UUID after, int limit) {
+        return jdbcTemplate.queryForList(FIND_USER_IDS_AFTER, UUID.class, after, limit);
+    }
+
+    /**
+     * Make sure every status has a counter row for the given users, so reconciliation can lock them.
+     */
+    public void createUserRows(List<UUID> userIds) {
+        jdbcTemplate.update(withArrays(CREATE_USER_ROWS,
+                new Object[][]{userIds.toArray(), Arrays.stream(SessionStatus.values()).map(Enum::name).toArray()},
+                new String[]{"uuid", "varchar"}));
+    }
+
+    /**
+     * Recount the given users' sessions and correct their counters. Must run in a transaction, after
+     * {@link #createUserRows}: the counter rows are locked before counting, so a concurrent
+     * transition is either already counted or applies its delta after this transaction ends.
+     *
+     * @return Number of counters corrected
+     */
+    public int reconcileUsers(List<UUID> userIds) {
+        Object[][] ids = {userIds.toArray()};
+        String[] types = {"uuid"};
+
+        Map<String, Long> stored = new HashMap<>();
+        jdbcTemplate.query(withArrays(LOCK_USER_ROWS, ids, types), rs -> {
+            stored.put(rs.getObject("user_id") + ":" + rs.getString("status"), rs.getLong("count"));
+        });
+        Map<String, Long> actual = new HashMap<>();
+        jdbcTemplate.query(withArrays(COUNT_USER_SESSIONS, ids, types), rs -> {
+            actual.put(rs.getObject("user_id") + ":" + rs.getString("status"), rs.getLong("count"));
+        });
+
+        List<Object[]> fixes = new ArrayList<>();
+        stored.forEach((key, count) -> {
+            long expected = actual.getOrDefault(key, 0L);
+            if (count != expected) {
+                int separator = key.indexOf(':');
+                fixes.add(new Object[]{expected, UUID.fromString(key.substring(0, separator)), key.substring(separator + 1)});
+            }
+        });
+        if (!fixes.isEmpty()) {
+            jdbcTemplate.batchUpdate(SET_USER_COUNT, fixes);
+        }
+        return fixes.size();
+    }
+
+    /**
+     * Recount all sessions and correct the overall counters. Must run in a transaction; all total
+     * rows are locked while counting, which briefly holds up transitions.
+     *
+     * @return Number of statuses corrected
+     */
+    public int reconcileTotals() {
+        jdbcTemplate.queryForList(LOCK_TOTALS);
+        Map<SessionStatus, Long> stored = findTotals();
+        Map<SessionStatus, Long> actual = toCounts(jdbcTemplate.queryForList(COUNT_SESSIONS));
+
+        List<Object[]> fixes = new ArrayList<>();
+        for (SessionStatus status : SessionStatus.values()) {
+            long drift = actual.getOrDefault(status, 0L) - stored.getOrDefault(status, 0L);
+            if (drift != 0) {
+                fixes.add(new Object[]{drift, status.name(), 0});
+            }
+        }
+        if (!fixes.isEmpty()) {
+            jdbcTemplate.batchUpdate(APPLY_TO_TOTALS, fixes);
+        }
+        return fixes.size();
+    }
+
+    private static PreparedStatementCreator withArrays(String sql, Object[][] arrays, String[] types) {
+        return connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            for (int i = 0; i < arrays.length; i++) {
+                statement.setArray(i + 1, connection.createArrayOf(types[i], arrays[i]));
+            }
+            return statement;
+        };
+    }
+
+    private static Map<SessionStatus, Long> toCounts(List<Map<String, Object>> rows) {
+        Map<SessionStatus, Long> counts = new EnumMap<>(SessionStatus.class);
+        for (Map<String, Object> row : rows) {
+            counts.put(SessionStatus.valueOf((String) row.get("status")), ((Number) row.get("count")).longValue());
+        }
+        return counts;
+    }
+
+    private static String name(SessionStatus status) {
+        return status != null ? status.name() : null;
+    }
+}
@@ -1,9 +1,17 @@
 package com.mockly.data.repository;
 
 import com.mockly.data.entity.User;
+import com.mockly.data.projection.DisplayNameView;
+import com.mockly.data.projection.UserCredentials;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,5 +19,44 @@ import java.util.UUID;
 public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
-}
 
+    /**
+     * Load id, password hash and profile role for login in one statement.
+     */
+    @Query("SELECT new com.mockly.data.projection.UserCredentials(u.id, u.passwordHash, p.role) " +
+           "FROM User u LEFT JOIN u.profile p WHERE u.email = :email")
+    Optional<UserCredentials> findCredentialsByEmail(@Param("email") String email);
+
+    /**
+     * Find users with their profiles in one query.
+     */
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.profile WHERE u.id IN :ids")
+    List<User> findAllWithProfileByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Which of the given user IDs exist, in one query.
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Load the name, surname and email of several users in one query.
+     */
+    @Query("SELECT new com.mockly.data.projection.DisplayNameView(u.id, p.name, p.surname, u.email) " +
+           "FROM User u LEFT JOIN u.profile p WHERE u.id IN :ids")
+    List<DisplayNameView> findDisplayNamesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Lock a user's row until the end of the transaction, serializing writers that act on that user.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> lockById(@Param("id") UUID id);
+
+    /**
+     * Lock several users' rows in ID order, so writers locking overlapping sets cannot deadlock.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id IN :ids ORDER BY u.id")
+    List<User> lockAllByIdIn(@Param("ids") Collection<UUID> ids);
+}
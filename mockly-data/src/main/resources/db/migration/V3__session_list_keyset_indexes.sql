@@ -0,0 +1,6 @@
+-- V3__session_list_keyset_indexes.sql
+-- Indexes for listing a user's sessions (creator UNION participant) ordered by (created_at, id)
+
+CREATE INDEX idx_sessions_created_by_created_at ON sessions(created_by, created_at DESC, id DESC);
+CREATE INDEX idx_sessions_created_at_id ON sessions(created_at DESC, id DESC);
+CREATE INDEX idx_session_participants_user_session ON session_participants(user_id, session_id);
@@ -0,0 +1,19 @@
+-- V4__single_active_session_per_creator.sql
+-- At most one SCHEDULED or ACTIVE session per creator, enforced by the database
+
+-- End all but the newest open session of each creator so the index can be built
+UPDATE sessions s
+SET status = 'ENDED',
+    ends_at = COALESCE(s.ends_at, CURRENT_TIMESTAMP),
+    updated_at = CURRENT_TIMESTAMP
+WHERE s.status IN ('SCHEDULED', 'ACTIVE')
+  AND EXISTS (
+      SELECT 1 FROM sessions newer
+      WHERE newer.created_by = s.created_by
+        AND newer.status IN ('SCHEDULED', 'ACTIVE')
+        AND (newer.created_at, newer.id) > (s.created_at, s.id)
+  );
+
+CREATE UNIQUE INDEX uq_sessions_created_by_open
+    ON sessions(created_by)
+    WHERE status IN ('SCHEDULED', 'ACTIVE');
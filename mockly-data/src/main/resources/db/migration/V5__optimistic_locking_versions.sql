@@ -0,0 +1,5 @@
+-- V5__optimistic_locking_versions.sql
+-- Version columns for optimistic locking of session and report state transitions
+
+ALTER TABLE sessions ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE reports ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,19 @@
+-- V6__interviewer_availability.sql
+-- Availability windows published by interviewers, and an index for loading booked slots
+
+CREATE TABLE interviewer_availability (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    interviewer_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    starts_at TIMESTAMPTZ NOT NULL,
+    ends_at TIMESTAMPTZ NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CHECK (ends_at > starts_at)
+);
+
+CREATE INDEX idx_interviewer_availability_interviewer_ends
+    ON interviewer_availability(interviewer_id, ends_at);
+CREATE INDEX idx_interviewer_availability_ends ON interviewer_availability(ends_at);
+
+-- Open sessions with a start time are the interviewers' booked slots
+CREATE INDEX idx_sessions_open_starts_at ON sessions(starts_at)
+    WHERE status IN ('SCHEDULED', 'ACTIVE') AND starts_at IS NOT NULL;
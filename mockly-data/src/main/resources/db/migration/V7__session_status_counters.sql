@@ -0,0 +1,35 @@
+-- V7__session_status_counters.sql
+-- Precomputed session counts per status, per participant and overall, for dashboards
+
+CREATE TABLE session_status_counts (
+    user_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    status VARCHAR(20) NOT NULL,
+    count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, status)
+);
+
+-- Overall counts are split over 16 shards per status so concurrent transitions rarely update the
+-- same row; readers sum the shards. All rows exist up front and are only ever updated.
+CREATE TABLE session_status_totals (
+    status VARCHAR(20) NOT NULL,
+    shard SMALLINT NOT NULL,
+    count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (status, shard)
+);
+
+INSERT INTO session_status_totals (status, shard, count)
+SELECT status, shard, 0
+FROM unnest(ARRAY['SCHEDULED', 'ACTIVE', 'ENDED', 'CANCELED']) AS status
+CROSS JOIN generate_series(0, 15) AS shard;
+
+-- Backfill from existing sessions
+INSERT INTO session_status_counts (user_id, status, count)
+SELECT p.user_id, s.status, COUNT(*)
+FROM session_participants p
+JOIN sessions s ON s.id = p.session_id
+GROUP BY p.user_id, s.status;
+
+UPDATE session_status_totals t
+SET count = c.count
+FROM (SELECT status, COUNT(*) AS count FROM sessions GROUP BY status) c
+WHERE t.status = c.status AND t.shard = 0;
@@ -0,0 +1,12 @@
+package com.mockly.security.crypto;
+
+/**
+ * Thrown by {@link OffloadingPasswordEncoder} when the hashing pool is saturated and a password
+ * cannot be hashed right now. Nothing has been done yet, so the request is safe to retry.
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
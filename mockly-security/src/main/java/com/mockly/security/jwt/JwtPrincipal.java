@@ -0,0 +1,26 @@
+package com.mockly.security.jwt;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Claims of a JWT whose signature and expiry have already been verified.
+ * Produced by {@link JwtTokenProvider#verify(String)} from a single parse.
+ * {@code tokenId} is the {@code jti} claim used for revocation; null for tokens issued before it was added.
+ */
+public record JwtPrincipal(
+        UUID userId,
+        String role,
+        String type,
+        Instant expiresAt,
+        String tokenId
+) {
+
+    public boolean isAccessToken() {
+        return JwtTokenProvider.ACCESS_TOKEN_TYPE.equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return JwtTokenProvider.REFRESH_TOKEN_TYPE.equals(type);
+    }
+}
@@ -2,8 +2,11 @@ package com.mockly.security.jwt;
 
 import com.mockly.data.entity.Profile;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -15,6 +18,9 @@ import java.util.UUID;
 @Component
 public class JwtTokenProvider {
 
+    static final String ACCESS_TOKEN_TYPE = "ACCESS";
+    static final String REFRESH_TOKEN_TYPE = "REFRESH";
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
@@ -24,13 +30,21 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-token-expiration:86400000}")
     private long refreshTokenExpirationMs;
 
-    private SecretKey getSigningKey() {
+    // Built once: the key and parser are immutable and thread-safe
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void init() {
         byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
         // HS512 requires at least 512 bits (64 bytes) key
         if (keyBytes.length < 64) {
             throw new IllegalArgumentException("JWT secret must be at least 512 bits (64 bytes) for HS512 algorithm");
         }
-        return Keys.hmacShaKeyFor(keyBytes);
+        signingKey = Keys.hmacShaKeyFor(keyBytes);
+        jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
     }
 
     public String generateAccessToken(UUID userId, Profile.ProfileRole role) {
@@ -38,12 +52,13 @@ public class JwtTokenProvider {
         Date expiryDate = new Date(now.getTime() + accessTokenExpirationMs);
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(userId.toString())
                 .claim("role", role.name())
-                .claim("type", "ACCESS")
+                .claim("type", ACCESS_TOKEN_TYPE)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -52,55 +67,55 @@ public class JwtTokenProvider {
         Date expiryDate = new Date(now.getTime() + refreshTokenExpirationMs);
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(userId.toString())
-                .claim("type", "REFRESH")
+                .claim("type", REFRESH_TOKEN_TYPE)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
-    public UUID getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    /**
+     * Verify signature and expiry of a token and extract its claims in one parse.
+     *
+     * @param token Compact JWT string
+     * @return Verified principal
+     * @throws JwtException if the token is malformed, tampered with or expired
+     * @throws IllegalArgumentException if the token is empty or its subject is not a UUID
+     */
+    public JwtPrincipal verify(String token) {
+        Claims claims = parseClaims(token);
+
+        return new JwtPrincipal(
+                UUID.fromString(claims.getSubject()),
+                claims.get("role", String.class),
+                claims.get("type", String.class),
+                claims.getExpiration().toInstant(),
+                claims.getId()
+        );
+    }
 
-        return UUID.fromString(claims.getSubject());
+    public UUID getUserIdFromToken(String token) {
+        return verify(token).userId();
     }
 
     public UUID getUserIdFromRefreshToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        String type = claims.get("type", String.class);
-        if (!"REFRESH".equals(type)) {
+        JwtPrincipal principal = verify(token);
+        if (!principal.isRefreshToken()) {
             throw new IllegalArgumentException("Invalid token type");
         }
 
-        return UUID.fromString(claims.getSubject());
+        return principal.userId();
     }
 
     public String getRoleFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.get("role", String.class);
+        return parseClaims(token).get("role", String.class);
     }
 
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
+            parseClaims(token);
             return true;
         } catch (Exception e) {
             return false;
@@ -109,17 +124,13 @@ public class JwtTokenProvider {
 
     public boolean validateRefreshToken(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-
-            String type = claims.get("type", String.class);
-            return "REFRESH".equals(type);
+            return REFRESH_TOKEN_TYPE.equals(parseClaims(token).get("type", String.class));
         } catch (Exception e) {
             return false;
         }
     }
-}
 
+    private Claims parseClaims(String token) {
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+}
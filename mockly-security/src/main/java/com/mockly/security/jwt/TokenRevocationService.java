@@ -0,0 +1,174 @@
+package com.mockly.security.jwt;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Deny-list of revoked token IDs (jti).
+ * <p>
+ * Revocations are stored in Redis with a TTL matching the token's remaining life, and mirrored
+ * into a per-node Bloom filter that is kept current via Redis pub/sub. A token is only looked up
+ * in Redis when the filter reports a possible match, so the common case costs no round trip.
+ * The filter is rebuilt periodically from Redis to drop expired entries.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationService implements MessageListener {
+
+    private static final String REVOKED_PREFIX = "revoked_jti:";
+    private static final String REVOKED_INDEX_KEY = "revoked_jtis";
+    static final String REVOCATION_CHANNEL = "jwt:revocations";
+
+    /**
+     * KEYS: revoked_jti:{jti}, revoked_jtis index. ARGV: jti, TTL in ms, expiry epoch ms, channel.
+     */
+    private static final RedisScript<Long> REVOKE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('SET', KEYS[1], '1', 'PX', ARGV[2])
+            redis.call('ZADD', KEYS[2], ARGV[3], ARGV[1])
+            redis.call('PUBLISH', ARGV[4], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @Value("${jwt.revocation.bloom.expected-insertions:100000}")
+    private long expectedInsertions;
+
+    @Value("${jwt.revocation.bloom.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    // Null until the first successful load; every check then goes to Redis
+    private volatile JtiBloomFilter filter;
+    // Filter being rebuilt; receives pub/sub updates so none are lost during the swap
+    private volatile JtiBloomFilter building;
+
+    @PostConstruct
+    void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(REVOCATION_CHANNEL));
+        try {
+            rebuild();
+        } catch (DataAccessException e) {
+            log.warn("Could not load revoked tokens at startup, checking Redis until next rebuild: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Revoke a token until it expires. No-op for tokens without a jti or already expired.
+     */
+    public void revoke(JwtPrincipal principal) {
+        if (principal.tokenId() == null) {
+            return;
+        }
+        long ttlMs = Duration.between(Instant.now(), principal.expiresAt()).toMillis();
+        if (ttlMs <= 0) {
+            return;
+        }
+
+        redisTemplate.execute(
+                REVOKE_SCRIPT,
+                List.of(REVOKED_PREFIX + principal.tokenId(), REVOKED_INDEX_KEY),
+                principal.tokenId(),
+                String.valueOf(ttlMs),
+                String.valueOf(principal.expiresAt().toEpochMilli()),
+                REVOCATION_CHANNEL
+        );
+        add(principal.tokenId());
+        log.info("Revoked token {} for user {}", principal.tokenId(), principal.userId());
+    }
+
+    /**
+     * Check whether a verified token has been revoked.
+     * Fails closed if the Bloom filter reports a possible match and Redis cannot confirm it.
+     */
+    public boolean isRevoked(JwtPrincipal principal) {
+        String tokenId = principal.tokenId();
+        if (tokenId == null) {
+            return false;
+        }
+
+        BloomCheck check = bloomCheck(tokenId);
+        if (check == BloomCheck.ABSENT) {
+            return false;
+        }
+
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(REVOKED_PREFIX + tokenId));
+        } catch (DataAccessException e) {
+            log.warn("Could not check token revocation in Redis: {}", e.getMessage());
+            return check == BloomCheck.POSSIBLE;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        add(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Rebuild the Bloom filter from Redis, dropping revocations whose tokens have expired.
+     */
+    @Scheduled(
+            initialDelayString = "${jwt.revocation.rebuild-interval-ms:600000}",
+            fixedDelayString = "${jwt.revocation.rebuild-interval-ms:600000}"
+    )
+    public void rebuild() {
+        JtiBloomFilter next = new JtiBloomFilter(expectedInsertions, falsePositiveRate);
+        building = next;
+        try {
+            redisTemplate.opsForZSet().removeRangeByScore(REVOKED_INDEX_KEY, 0, System.currentTimeMillis());
+            Set<String> tokenIds = redisTemplate.opsForZSet().range(REVOKED_INDEX_KEY, 0, -1);
+            if (tokenIds != null) {
+                tokenIds.forEach(next::put);
+            }
+            filter = next;
+            log.debug("Rebuilt revoked token filter with {} entries", tokenIds != null ? tokenIds.size() : 0);
+        } finally {
+            building = null;
+        }
+    }
+
+    private void add(String tokenId) {
+        JtiBloomFilter current = filter;
+        if (current != null) {
+            current.put(tokenId);
+        }
+        JtiBloomFilter next = building;
+        if (next != null) {
+            next.put(tokenId);
+        }
+    }
+
+    private BloomCheck bloomCheck(String tokenId) {
+        JtiBloomFilter current = filter;
+        if (current == null) {
+            return BloomCheck.UNKNOWN;
+        }
+        return current.mightContain(tokenId) ? BloomCheck.POSSIBLE : BloomCheck.ABSENT;
+    }
+
+    private enum BloomCheck {
+        ABSENT,
+        POSSIBLE,
+        UNKNOWN
+    }
+}
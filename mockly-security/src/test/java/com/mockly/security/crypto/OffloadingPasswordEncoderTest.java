@@ -0,0 +1,153 @@
+package com.mockly.security.crypto;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OffloadingPasswordEncoder Tests")
+class OffloadingPasswordEncoderTest {
+
+    @Mock
+    private PasswordEncoder delegate;
+
+    private ThreadPoolTaskExecutor executor;
+    private SimpleMeterRegistry meterRegistry;
+    private OffloadingPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        // One hashing thread and one queue slot: a third concurrent call is rejected
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.initialize();
+        meterRegistry = new SimpleMeterRegistry();
+        encoder = new OffloadingPasswordEncoder(delegate, executor, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should reject calls immediately while the pool is saturated and time admitted ones")
+    void shouldFailFastWhenSaturated() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.encode("first")).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return "first-hash";
+        });
+        when(delegate.encode("second")).thenReturn("second-hash");
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+        awaitQueued(1);
+
+        // When & Then
+        assertThatThrownBy(() -> encoder.matches("third", "hash"))
+                .isInstanceOf(PasswordHashingBusyException.class)
+                .hasCauseInstanceOf(TaskRejectedException.class);
+        assertThat(meterRegistry.get("auth.password.rejected").tag("operation", "matches").counter().count())
+                .isEqualTo(1);
+        verify(delegate, never()).matches(any(), any());
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("first-hash");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("second-hash");
+        assertThat(meterRegistry.get("auth.password.queue.wait").tag("operation", "encode").timer().count())
+                .isEqualTo(2);
+        // The second call waited in the queue until the first was released
+        assertThat(meterRegistry.get("auth.password.queue.wait").tag("operation", "encode").timer()
+                .max(TimeUnit.NANOSECONDS)).isPositive();
+        assertThat(meterRegistry.get("auth.password.hash").tag("operation", "encode").timer().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should rethrow runtime exceptions of the delegate unwrapped")
+    void shouldUnwrapDelegateExceptions() {
+        // Given
+        IllegalArgumentException failure = new IllegalArgumentException("bad hash");
+        when(delegate.matches("password", "garbage")).thenThrow(failure);
+        when(delegate.encode("password")).thenThrow(new OutOfMemoryError("boom"));
+
+        // When & Then
+        assertThatThrownBy(() -> encoder.matches("password", "garbage")).isSameAs(failure);
+        assertThatThrownBy(() -> encoder.encode("password"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(OutOfMemoryError.class);
+        // Timed even when hashing fails
+        assertThat(meterRegistry.get("auth.password.hash").tag("operation", "matches").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should cancel hashing and keep the interrupt flag when the caller is interrupted")
+    void shouldCancelOnInterrupt() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        when(delegate.encode("password")).thenAnswer(invocation -> {
+            started.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                cancelled.countDown();
+            }
+            return "hash";
+        });
+        CompletableFuture<Throwable> failure = new CompletableFuture<>();
+        CompletableFuture<Boolean> interruptFlag = new CompletableFuture<>();
+        Thread caller = new Thread(() -> {
+            try {
+                encoder.encode("password");
+            } catch (RuntimeException e) {
+                failure.complete(e);
+            }
+            interruptFlag.complete(Thread.currentThread().isInterrupted());
+        });
+        caller.start();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        caller.interrupt();
+
+        // Then
+        assertThat(failure.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(InterruptedException.class);
+        assertThat(interruptFlag.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(cancelled.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private void awaitQueued(int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.getQueueSize() < size && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(executor.getQueueSize()).isEqualTo(size);
+    }
+}
@@ -0,0 +1,102 @@
+package com.mockly.security.jwt;
+
+import com.mockly.data.entity.Profile;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JwtTokenProvider Tests")
+class JwtTokenProviderTest {
+
+    private static final String SECRET =
+            "test-secret-key-must-be-at-least-64-bytes-long-for-hs512-algorithm-to-work-properly-in-testing";
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = newProvider(SECRET, 3600000L);
+    }
+
+    @Test
+    @DisplayName("Should verify access token and extract all claims in one call")
+    void shouldVerifyAccessToken() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        String token = jwtTokenProvider.generateAccessToken(userId, Profile.ProfileRole.INTERVIEWER);
+
+        // When
+        JwtPrincipal principal = jwtTokenProvider.verify(token);
+
+        // Then
+        assertThat(principal.userId()).isEqualTo(userId);
+        assertThat(principal.role()).isEqualTo("INTERVIEWER");
+        assertThat(principal.isAccessToken()).isTrue();
+        assertThat(principal.expiresAt()).isAfter(Instant.now());
+        assertThat(principal.tokenId()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("Should verify refresh token without role")
+    void shouldVerifyRefreshToken() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        String token = jwtTokenProvider.generateRefreshToken(userId);
+
+        // When
+        JwtPrincipal principal = jwtTokenProvider.verify(token);
+
+        // Then
+        assertThat(principal.userId()).isEqualTo(userId);
+        assertThat(principal.role()).isNull();
+        assertThat(principal.isRefreshToken()).isTrue();
+        assertThat(jwtTokenProvider.getUserIdFromRefreshToken(token)).isEqualTo(userId);
+    }
+
+    @Test
+    @DisplayName("Should reject token signed with a different key")
+    void shouldRejectForeignSignature() {
+        // Given
+        JwtTokenProvider other = newProvider(SECRET.replace('t', 'x'), 3600000L);
+        String token = other.generateAccessToken(UUID.randomUUID(), Profile.ProfileRole.CANDIDATE);
+
+        // When & Then
+        assertThatThrownBy(() -> jwtTokenProvider.verify(token)).isInstanceOf(JwtException.class);
+        assertThat(jwtTokenProvider.validateToken(token)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject expired token")
+    void shouldRejectExpiredToken() {
+        // Given
+        JwtTokenProvider expiring = newProvider(SECRET, -1000L);
+        String token = expiring.generateAccessToken(UUID.randomUUID(), Profile.ProfileRole.CANDIDATE);
+
+        // When & Then
+        assertThatThrownBy(() -> jwtTokenProvider.verify(token)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("Should fail fast on a secret shorter than 64 bytes")
+    void shouldRejectShortSecret() {
+        assertThatThrownBy(() -> newProvider("too-short", 3600000L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static JwtTokenProvider newProvider(String secret, long accessTokenExpirationMs) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret", secret);
+        ReflectionTestUtils.setField(provider, "accessTokenExpirationMs", accessTokenExpirationMs);
+        ReflectionTestUtils.setField(provider, "refreshTokenExpirationMs", 86400000L);
+        provider.init();
+        return provider;
+    }
+}
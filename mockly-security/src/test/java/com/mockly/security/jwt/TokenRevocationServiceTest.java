@@ -0,0 +1,92 @@
+package com.mockly.security.jwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenRevocationService Tests")
+class TokenRevocationServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @InjectMocks
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(tokenRevocationService, "expectedInsertions", 1000L);
+        ReflectionTestUtils.setField(tokenRevocationService, "falsePositiveRate", 0.001);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    }
+
+    @Test
+    @DisplayName("Should not call Redis for tokens absent from the Bloom filter")
+    void shouldSkipRedisWhenFilterSaysAbsent() {
+        // Given
+        when(zSetOperations.range(anyString(), eq(0L), eq(-1L))).thenReturn(Set.of("revoked-jti"));
+        tokenRevocationService.init();
+
+        // When
+        boolean revoked = tokenRevocationService.isRevoked(principal("other-jti"));
+
+        // Then
+        assertThat(revoked).isFalse();
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("Should confirm a possible match in Redis")
+    void shouldConfirmPossibleMatchInRedis() {
+        // Given
+        when(zSetOperations.range(anyString(), eq(0L), eq(-1L))).thenReturn(Set.of("revoked-jti"));
+        when(redisTemplate.hasKey("revoked_jti:revoked-jti")).thenReturn(true);
+        tokenRevocationService.init();
+
+        // When & Then
+        assertThat(tokenRevocationService.isRevoked(principal("revoked-jti"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should fail closed when a possible match cannot be confirmed")
+    void shouldFailClosedWhenRedisUnavailable() {
+        // Given
+        when(zSetOperations.range(anyString(), eq(0L), eq(-1L))).thenReturn(Set.of());
+        tokenRevocationService.init();
+        tokenRevocationService.revoke(principal("revoked-jti"));
+        when(redisTemplate.hasKey(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+
+        // When & Then
+        assertThat(tokenRevocationService.isRevoked(principal("revoked-jti"))).isTrue();
+        verify(redisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    private static JwtPrincipal principal(String tokenId) {
+        return new JwtPrincipal(UUID.randomUUID(), "CANDIDATE", "ACCESS", Instant.now().plusSeconds(60), tokenId);
+    }
+}
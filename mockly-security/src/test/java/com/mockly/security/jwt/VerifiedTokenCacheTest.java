@@ -0,0 +1,82 @@
+package com.mockly.security.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VerifiedTokenCache Tests")
+class VerifiedTokenCacheTest {
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Should verify a token only once while it is valid")
+    void shouldServeRepeatedVerificationFromCache() {
+        // Given
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtTokenProvider, meterRegistry, true, 100);
+        JwtPrincipal principal = principalExpiringAt(Instant.now().plusSeconds(60));
+        when(jwtTokenProvider.verify("token")).thenReturn(principal);
+
+        // When
+        cache.verify("token");
+        JwtPrincipal cached = cache.verify("token");
+
+        // Then
+        assertThat(cached).isEqualTo(principal);
+        verify(jwtTokenProvider, times(1)).verify("token");
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should never serve a principal past the token expiry")
+    void shouldNotServeExpiredPrincipal() {
+        // Given
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtTokenProvider, meterRegistry, true, 100);
+        when(jwtTokenProvider.verify("token")).thenReturn(principalExpiringAt(Instant.now().minusSeconds(1)));
+
+        // When
+        cache.verify("token");
+        cache.verify("token");
+
+        // Then
+        verify(jwtTokenProvider, times(2)).verify("token");
+    }
+
+    @Test
+    @DisplayName("Should verify on every call when disabled")
+    void shouldPassThroughWhenDisabled() {
+        // Given
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtTokenProvider, meterRegistry, false, 100);
+        when(jwtTokenProvider.verify("token")).thenReturn(principalExpiringAt(Instant.now().plusSeconds(60)));
+
+        // When
+        cache.verify("token");
+        cache.verify("token");
+
+        // Then
+        verify(jwtTokenProvider, times(2)).verify("token");
+    }
+
+    private static JwtPrincipal principalExpiringAt(Instant expiresAt) {
+        return new JwtPrincipal(UUID.randomUUID(), "CANDIDATE", "ACCESS", expiresAt, UUID.randomUUID().toString());
+    }
+}